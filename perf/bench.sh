@@ -0,0 +1,54 @@
+#!/bin/sh
+# 日報一覧（/reports）の負荷試験
+# アプリを指定したSpringプロファイルで起動し、ログイン後のセッションでabを実行して
+# スループット（Requests per second）と99パーセンタイルの応答時間を出力する
+#
+# 使い方: perf/bench.sh <Springプロファイル（default可）> [同時接続数] [リクエスト数]
+# 事前に ./mvnw -DskipTests package でjarを作成しておくこと
+# 環境変数: BENCH_USER / BENCH_PASSWORD（ログインする社員番号・パスワード）, BENCH_PORT, BENCH_PATH, JAVA_OPTS
+#           BENCH_METRICS（計測後に出力するメトリクス名、空白区切り。管理者でログインすること）
+set -eu
+
+PROFILE=${1:?Springプロファイルを指定してください}
+CONCURRENCY=${2:-400}
+REQUESTS=${3:-20000}
+PORT=${BENCH_PORT:-18080}
+BENCH_PATH=${BENCH_PATH:-/reports}
+USER_CODE=${BENCH_USER:-1}
+PASSWORD=${BENCH_PASSWORD:?BENCH_PASSWORDにログインパスワードを指定してください}
+BASE_URL="http://localhost:${PORT}"
+
+cd "$(dirname "$0")/.."
+JAR=$(ls target/*.jar | grep -v plain | head -n 1)
+WORK=$(mktemp -d)
+trap 'kill "$APP_PID" 2>/dev/null || true; rm -rf "$WORK"' EXIT
+
+# アプリ起動（AJPのポートも重ならないようにずらす）
+java ${JAVA_OPTS:-} -jar "$JAR" --spring.profiles.active="$PROFILE" --server.port="$PORT" \
+        --server.ajp.port=$((PORT + 1)) > "$WORK/app.log" 2>&1 &
+APP_PID=$!
+until curl -s -o /dev/null "$BASE_URL/login"; do
+    kill -0 "$APP_PID" 2>/dev/null || { cat "$WORK/app.log"; exit 1; }
+    sleep 1
+done
+
+# ログイン（CSRFトークンを取得してからフォーム送信）
+CSRF=$(curl -s -c "$WORK/cookie" "$BASE_URL/login" | sed -n 's/.*name="_csrf" value="\([^"]*\)".*/\1/p')
+curl -s -o /dev/null -b "$WORK/cookie" -c "$WORK/cookie" \
+        --data-urlencode "username=$USER_CODE" --data-urlencode "password=$PASSWORD" \
+        --data-urlencode "_csrf=$CSRF" "$BASE_URL/login"
+SESSION=$(awk '$6 == "JSESSIONID" { print $7 }' "$WORK/cookie")
+
+# ウォームアップ後に計測
+ab -q -k -c 50 -n 2000 -C "JSESSIONID=$SESSION" "$BASE_URL$BENCH_PATH" > /dev/null
+ab -q -k -c "$CONCURRENCY" -n "$REQUESTS" -C "JSESSIONID=$SESSION" "$BASE_URL$BENCH_PATH" > "$WORK/ab.txt"
+
+RPS=$(awk '/^Requests per second/ { print $4 }' "$WORK/ab.txt")
+P99=$(awk '$1 == "99%" { print $2 }' "$WORK/ab.txt")
+FAILED=$(awk '/^Failed requests/ { print $3 }' "$WORK/ab.txt")
+printf '%s\tconcurrency=%s\trps=%s\tp99_ms=%s\tfailed=%s\n' "$PROFILE" "$CONCURRENCY" "$RPS" "$P99" "$FAILED"
+
+# 計測後のメトリクス（/actuator/metrics）
+for METRIC in ${BENCH_METRICS:-}; do
+    printf '%s\t%s\t%s\n' "$PROFILE" "$METRIC" "$(curl -s -b "$WORK/cookie" "$BASE_URL/actuator/metrics/$METRIC")"
+done
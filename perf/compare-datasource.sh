@@ -0,0 +1,15 @@
+#!/bin/sh
+# コネクションプール・JDBCドライバのチューニング前後の比較
+# チューニング前の既定値（baselineプロファイル）と現在の設定で/reportsの負荷試験を行い、
+# プールの待ち状況（接続取得時間・待ち数）も合わせて出力する
+#
+# 使い方: BENCH_PASSWORD=... perf/compare-datasource.sh [同時接続数] [リクエスト数]
+set -eu
+
+cd "$(dirname "$0")/.."
+./mvnw -q -B -DskipTests package
+
+export BENCH_METRICS="${BENCH_METRICS:-hikaricp.connections.acquire hikaricp.connections.pending hikaricp.connections.active}"
+for PROFILE in baseline default; do
+    perf/bench.sh "$PROFILE" "${1:-200}" "${2:-20000}"
+done
@@ -0,0 +1,55 @@
+#!/bin/sh
+# 起動方式ごとの起動時間とメモリ使用量（RSS）の比較
+#   jar    : java -jar（通常の起動）
+#   aot    : 展開したjar＋Spring AOT
+#   cds    : 展開したjar＋Spring AOT＋CDSアーカイブ
+#   native : ネイティブイメージ（target/DailyReportSystemApplicationがある場合のみ）
+# 起動してから/actuator/healthが応答するまでの時間と、その時点のRSSを計測する
+#
+# 使い方: perf/compare-startup-modes.sh [計測回数]
+# 事前に ./mvnw -Pcds -DskipTests package（ネイティブイメージも計測する場合は -Pnative,native-offline native:compile）を実行しておくこと
+# 環境変数: APP_ARGS（アプリの引数。例: --spring.profiles.active=perf）, STARTUP_PORT
+set -eu
+
+RUNS=${1:-5}
+PORT=${STARTUP_PORT:-18081}
+cd "$(dirname "$0")/.."
+JAR=$(ls target/*.jar | grep -v plain | head -n 1)
+MAIN=com.techacademy.DailyReportSystemApplication
+
+# 指定したコマンドで起動し、「起動時間(ms) RSS(MB)」を出力する
+measure() {
+    START=$(date +%s%N)
+    "$@" --server.port="$PORT" --server.ajp.enabled=false ${APP_ARGS:-} > /dev/null 2>&1 &
+    PID=$!
+    until curl -s -o /dev/null "http://localhost:$PORT/actuator/health"; do
+        kill -0 "$PID" 2>/dev/null || { echo "起動に失敗しました: $*" >&2; exit 1; }
+        sleep 0.05
+    done
+    ELAPSED=$(( ($(date +%s%N) - START) / 1000000 ))
+    RSS=$(awk '/^VmRSS/ { print int($2 / 1024) }' "/proc/$PID/status")
+    kill "$PID"
+    wait "$PID" 2>/dev/null || true
+    echo "$ELAPSED $RSS"
+}
+
+# 計測結果の中央値（起動時間・RSSそれぞれ）
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+report() {
+    DATA=$(cat)
+    printf '%-8s startup=%s ms\trss=%s MB\n' "$1" "$(echo "$DATA" | cut -d' ' -f1 | median)" \
+            "$(echo "$DATA" | cut -d' ' -f2 | median)"
+}
+
+for i in $(seq "$RUNS"); do measure java -jar "$JAR"; done | report jar
+for i in $(seq "$RUNS"); do
+    measure java -Dspring.aot.enabled=true @target/cds/app.args "$MAIN"
+done | report aot
+for i in $(seq "$RUNS"); do
+    measure java -XX:SharedArchiveFile=target/cds/app.jsa -Dspring.aot.enabled=true @target/cds/app.args "$MAIN"
+done | report cds
+if [ -x target/DailyReportSystemApplication ]; then
+    for i in $(seq "$RUNS"); do measure target/DailyReportSystemApplication; done | report native
+fi
@@ -0,0 +1,37 @@
+#!/bin/sh
+# 起動時間の比較（スキーマをHibernateで毎回作り直す従来の方式と、マイグレーション適用済みのスキーマを検証のみ行う方式）
+# 起動処理（コンテキストのリフレッシュ）が終わった時点で終了させ、プロセスの実行時間を計測する
+#
+# 使い方: perf/compare-startup.sh [計測回数]
+# 従来方式はテーブルを作り直すため、通常のDBとは別の空のDBで計測する（STARTUP_DB_NAME、既定 daily_report_startup）
+#   CREATE DATABASE daily_report_startup CHARACTER SET utf8mb4 COLLATE utf8mb4_bin;
+#   GRANT ALL PRIVILEGES ON daily_report_startup.* to 'repuser'@'localhost';
+set -eu
+
+RUNS=${1:-5}
+cd "$(dirname "$0")/.."
+./mvnw -q -B -DskipTests package
+JAR=$(ls target/*.jar | grep -v plain | head -n 1)
+
+# 指定した引数で起動し、起動完了までのミリ秒を出力する
+measure() {
+    START=$(date +%s%N)
+    java -Dspring.context.exit=onRefresh -jar "$JAR" --server.port=0 --server.ajp.enabled=false "$@" > /dev/null 2>&1
+    echo $(( ($(date +%s%N) - START) / 1000000 ))
+}
+
+# 計測結果の中央値
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+# マイグレーションを適用しておき、1回目の適用時間を計測から除く
+measure > /dev/null
+
+VALIDATE=$(for i in $(seq "$RUNS"); do measure; done | median)
+CREATE=$(export DB_NAME=${STARTUP_DB_NAME:-daily_report_startup}; for i in $(seq "$RUNS"); do
+    measure --spring.flyway.enabled=false --spring.jpa.hibernate.ddl-auto=create-drop
+done | median)
+
+printf 'ddl-auto=create-drop\t%s ms\n' "$CREATE"
+printf 'flyway+validate\t%s ms\n' "$VALIDATE"
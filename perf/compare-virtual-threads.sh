@@ -0,0 +1,13 @@
+#!/bin/sh
+# プラットフォームスレッドのTomcatワーカーと仮想スレッドの比較
+# Java 21でビルドし、同じjarを既定の設定とvthreadsプロファイルでそれぞれ計測する
+#
+# 使い方: BENCH_PASSWORD=... perf/compare-virtual-threads.sh [同時接続数] [リクエスト数]
+set -eu
+
+cd "$(dirname "$0")/.."
+./mvnw -q -B -Pjava21 -DskipTests package
+
+for PROFILE in default vthreads; do
+    perf/bench.sh "$PROFILE" "${1:-400}" "${2:-20000}"
+done
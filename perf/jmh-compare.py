@@ -0,0 +1,27 @@
+#!/usr/bin/env python3
+# JMHの結果（-rf json）を2つ比較し、ベンチマーク・パラメータごとのスコアの変化率を出力する
+# 使い方: perf/jmh-compare.py <前回のjmh-result.json> <今回のjmh-result.json>
+import json
+import sys
+
+
+def load(path):
+    with open(path, encoding="utf-8") as f:
+        results = {}
+        for result in json.load(f):
+            params = ",".join("%s=%s" % item for item in sorted(result.get("params", {}).items()))
+            metric = result["primaryMetric"]
+            results[(result["benchmark"], params)] = (metric["score"], metric["scoreError"], metric["scoreUnit"])
+        return results
+
+
+before = load(sys.argv[1])
+after = load(sys.argv[2])
+for key in sorted(set(before) | set(after)):
+    name = "%s(%s)" % key if key[1] else key[0]
+    if key not in before or key not in after:
+        print("%-90s %s" % (name, "追加" if key in after else "削除"))
+        continue
+    old, new = before[key], after[key]
+    change = (new[0] - old[0]) / old[0] * 100 if old[0] else 0.0
+    print("%-90s %12.3f -> %12.3f %-8s %+7.1f%%" % (name, old[0], new[0], new[2], change))
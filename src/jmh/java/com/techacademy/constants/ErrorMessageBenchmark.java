@@ -0,0 +1,36 @@
+package com.techacademy.constants;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// エラーメッセージの取得（入力エラー時に毎回呼ばれる）
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorMessageBenchmark {
+
+    @Param({ "HALFSIZE_ERROR", "DATECHECK_ERROR" })
+    public ErrorKinds errorKinds;
+
+    // コントローラと同じく、存在確認・名称・メッセージの順に取得する
+    @Benchmark
+    public void lookup(Blackhole blackhole) {
+        blackhole.consume(ErrorMessage.contains(errorKinds));
+        blackhole.consume(ErrorMessage.getErrorName(errorKinds));
+        blackhole.consume(ErrorMessage.getErrorValue(errorKinds));
+    }
+}
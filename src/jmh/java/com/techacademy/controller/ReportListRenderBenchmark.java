@@ -0,0 +1,192 @@
+package com.techacademy.controller;
+
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.expression.DefaultWebSecurityExpressionHandler;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.support.RequestContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.extras.springsecurity6.dialect.SpringSecurityDialect;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.spring6.context.webmvc.SpringWebMvcThymeleafRequestContext;
+import org.thymeleaf.spring6.naming.SpringContextVariableNames;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import com.techacademy.entity.Employee;
+import com.techacademy.entity.Employee.Role;
+import com.techacademy.repository.ReportSummary;
+import com.techacademy.service.ReportPage;
+import com.techacademy.service.UserDetail;
+
+// 日報一覧画面（reports/list.html・reports/list_table.html）の描画（DBを使用せず、件数ごとに計測する）
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportListRenderBenchmark {
+
+    @Param({ "100", "10000", "100000" })
+    public int rows;
+
+    private SpringTemplateEngine templateEngine;
+    private MockServletContext servletContext;
+    private JakartaServletWebApplication webApplication;
+    private GenericWebApplicationContext applicationContext;
+    private Map<String, Object> model;
+    private String cachedReportTable;
+
+    @Setup
+    public void setup() {
+        // アプリケーションと同じくクラスパスのtemplates配下を使用し、Spring Securityの方言を追加する
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(true);
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.addDialect(new SpringSecurityDialect());
+
+        // sec:authorize の評価に使用するアプリケーションコンテキスト
+        servletContext = new MockServletContext();
+        applicationContext = new GenericWebApplicationContext(servletContext);
+        applicationContext.registerBean(DefaultWebSecurityExpressionHandler.class);
+        applicationContext.refresh();
+        servletContext.setAttribute(WebApplicationContext.ROOT_WEB_APPLICATION_CONTEXT_ATTRIBUTE, applicationContext);
+        webApplication = JakartaServletWebApplication.buildApplication(servletContext);
+
+        // ログイン中の従業員（管理者）
+        Employee employee = new Employee();
+        employee.setCode("1");
+        employee.setName("煌木　太郎");
+        employee.setRole(Role.ADMIN);
+        employee.setPassword("");
+        UserDetail userDetail = new UserDetail(employee);
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(userDetail, null, userDetail.getAuthorities()));
+
+        // 一覧に表示する日報
+        List<ReportSummary> reportList = new ArrayList<ReportSummary>(rows);
+        LocalDate today = LocalDate.now();
+        for (int i = rows; i > 0; i--) {
+            reportList.add(new Summary(i, today.minusDays(i % 365), "日報タイトル" + i, "煌木　太郎"));
+        }
+        ReportPage reportPage = new ReportPage(reportList, true, true);
+        model = new HashMap<String, Object>();
+        model.put("listSize", (long) rows);
+        model.put("reportPage", reportPage);
+        model.put("reportList", reportPage.getReportList());
+
+        // キャッシュ済みの一覧の表
+        WebContext tableContext = new WebContext(webApplication.buildExchange(
+                new MockHttpServletRequest(servletContext, "GET", "/reports"), new MockHttpServletResponse()),
+                Locale.JAPANESE, model);
+        cachedReportTable = templateEngine.process("reports/list_table", Set.of("table"), tableContext);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        applicationContext.close();
+    }
+
+    // ThymeleafViewと同じくリクエストごとにコンテキストを作成して描画する（一覧の表のキャッシュがない場合）
+    @Benchmark
+    public void render() {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/reports");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        WebContext tableContext = new WebContext(webApplication.buildExchange(request, response), Locale.JAPANESE,
+                model);
+        String reportTable = templateEngine.process("reports/list_table", Set.of("table"), tableContext);
+        renderPage(request, response, reportTable);
+    }
+
+    // 一覧の表をキャッシュから取得できた場合（ページの枠部分のみ描画する）
+    @Benchmark
+    public void renderCached() {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/reports");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        renderPage(request, response, cachedReportTable);
+    }
+
+    private void renderPage(MockHttpServletRequest request, MockHttpServletResponse response, String reportTable) {
+        request.setAttribute(DispatcherServlet.WEB_APPLICATION_CONTEXT_ATTRIBUTE, applicationContext);
+
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("reportTable", reportTable);
+        variables.put(SpringContextVariableNames.THYMELEAF_REQUEST_CONTEXT, new SpringWebMvcThymeleafRequestContext(
+                new RequestContext(request, response, servletContext, variables), request));
+        WebContext context = new WebContext(webApplication.buildExchange(request, response), Locale.JAPANESE,
+                variables);
+        templateEngine.process("reports/list", context, Writer.nullWriter());
+    }
+
+    // 日報一覧の1行分
+    public static class Summary implements ReportSummary {
+
+        private final Integer id;
+        private final LocalDate reportDate;
+        private final String title;
+        private final String employeeName;
+
+        Summary(Integer id, LocalDate reportDate, String title, String employeeName) {
+            this.id = id;
+            this.reportDate = reportDate;
+            this.title = title;
+            this.employeeName = employeeName;
+        }
+
+        @Override
+        public Integer getId() {
+            return id;
+        }
+
+        @Override
+        public LocalDate getReportDate() {
+            return reportDate;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getEmployeeName() {
+            return employeeName;
+        }
+    }
+}
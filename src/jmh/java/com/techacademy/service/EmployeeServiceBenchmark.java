@@ -0,0 +1,60 @@
+package com.techacademy.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.techacademy.entity.Employee;
+
+// 従業員パスワードの入力チェック
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeServiceBenchmark {
+
+    @Param({ "password1234", "パスワード1234" })
+    public String password;
+
+    private EmployeeService employeeService;
+    private Employee employee;
+
+    @Setup
+    public void setup() {
+        // 入力チェックはリポジトリ等を使用しないため依存なしで生成する
+        employeeService = new EmployeeService(null, null, null, null, null, null);
+        employee = new Employee();
+        employee.setPassword(password);
+    }
+
+    // 半角英数字チェック（事前にコンパイルした正規表現を使用）
+    @Benchmark
+    public boolean halfSizeCheck() {
+        return employeeService.isHalfSizeCheckError(employee);
+    }
+
+    // 比較用：呼び出しごとに正規表現をコンパイルする場合
+    @Benchmark
+    public boolean halfSizeCheckCompileEachCall() {
+        return !Pattern.compile("^[A-Za-z0-9]+$").matcher(employee.getPassword()).matches();
+    }
+
+    // 桁数チェック
+    @Benchmark
+    public boolean rangeCheck() {
+        return employeeService.isOutOfRangePassword(employee);
+    }
+}
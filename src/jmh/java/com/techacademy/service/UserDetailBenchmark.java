@@ -0,0 +1,48 @@
+package com.techacademy.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.techacademy.entity.Employee;
+import com.techacademy.entity.Employee.Role;
+
+// ログイン時・キャッシュからの従業員取得時に行うUserDetailの生成
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserDetailBenchmark {
+
+    private Employee employee;
+
+    @Setup
+    public void setup() {
+        employee = new Employee();
+        employee.setCode("1");
+        employee.setName("煌木　太郎");
+        employee.setRole(Role.ADMIN);
+        employee.setPassword("$2a$10$vY93/U2cXCfEMBESYnDJUevcjJ208sXav23S.K8elE/J6Sxr4w5jO");
+        employee.setDeleteFlg(false);
+        LocalDateTime now = LocalDateTime.now();
+        employee.setCreatedAt(now);
+        employee.setUpdatedAt(now);
+    }
+
+    @Benchmark
+    public UserDetail construct() {
+        return new UserDetail(employee);
+    }
+}
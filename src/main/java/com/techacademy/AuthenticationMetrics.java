@@ -0,0 +1,36 @@
+package com.techacademy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// ログインの成功・失敗件数をメトリクスとして公開する
+@Component
+public class AuthenticationMetrics {
+
+    private final Counter successCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public AuthenticationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.successCounter = Counter.builder("login.attempts").tag("result", "success").register(meterRegistry);
+    }
+
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        successCounter.increment();
+    }
+
+    // 失敗理由（パスワード誤り・混雑による拒否など）ごとに数える
+    @EventListener
+    public void onFailure(AbstractAuthenticationFailureEvent event) {
+        meterRegistry.counter("login.attempts", "result", "failure", "reason",
+                event.getException().getClass().getSimpleName()).increment();
+    }
+}
@@ -0,0 +1,126 @@
+package com.techacademy;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// パスワードのハッシュ化・照合の同時実行数を制限するPasswordEncoder
+// BCryptは呼び出し元のスレッドで計算し（別スレッドへの受け渡しはしない）、同時に計算できる数をセマフォで制限する
+// 空きを待つのは待ち行列の長さ・待ち時間の上限までとし、それを超えた場合は待たずに拒否して、リクエスト処理スレッドを長く占有しない
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+    private final int queueCapacity;
+    // 空きを待っているスレッド数
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Duration timeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity, Duration timeout,
+            MeterRegistry meterRegistry) {
+        // 0以下の場合は常に拒否されてログインできなくなるため、起動時に確認する
+        if (poolSize <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("パスワード処理の同時実行数・待ち行列の長さには1以上を指定してください（poolSize="
+                    + poolSize + "、queueCapacity=" + queueCapacity + "）");
+        }
+        this.delegate = delegate;
+        // 待っているスレッドは到着順に実行する
+        this.permits = new Semaphore(poolSize, true);
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+
+        // 実行中・待ち行列の長さ・処理時間（待ち時間を含む）をメトリクスとして公開する
+        Gauge.builder("password.encoder.active", () -> poolSize - permits.availablePermits()).register(meterRegistry);
+        Gauge.builder("password.encoder.queued", waiting::get).register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.encoder.latency").tag("operation", "encode")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.encoder.latency").tag("operation", "matches")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.encoder.rejected").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // 空きができてから呼び出し元のスレッドで実行する（待ち時間を含めた処理時間を記録する）
+    private <T> T execute(Timer timer, Supplier<T> task) {
+        Timer.Sample sample = Timer.start();
+        try {
+            acquire();
+            try {
+                return task.get();
+            } finally {
+                permits.release();
+            }
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    // 空きを待つ（待ち行列が一杯の場合は待たずに、待ち時間の上限を超えた場合はその時点で拒否する）
+    private void acquire() {
+        // 空きがあり、待っているスレッドもなければすぐに実行する
+        if (tryAcquire(0)) {
+            return;
+        }
+        if (waiting.incrementAndGet() > queueCapacity) {
+            waiting.decrementAndGet();
+            rejectedCounter.increment();
+            throw new BusyException("パスワード処理が混み合っています", null);
+        }
+        try {
+            if (!tryAcquire(timeout.toMillis())) {
+                rejectedCounter.increment();
+                throw new BusyException("パスワード処理がタイムアウトしました", null);
+            }
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    // 到着順を守って空きを待つ（待っているスレッドがいる場合、待ち時間0では取得しない）
+    private boolean tryAcquire(long timeoutMillis) {
+        try {
+            return permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusyException("パスワード処理が中断されました", e);
+        }
+    }
+
+    // 混み合っている・タイムアウトした場合の例外
+    // ログイン時は認証失敗として扱われ、従業員の登録・更新時は呼び出し側で入力エラーとして扱う
+    public static class BusyException extends InternalAuthenticationServiceException {
+
+        private static final long serialVersionUID = 1L;
+
+        public BusyException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
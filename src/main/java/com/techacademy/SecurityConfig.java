@@ -1,17 +1,37 @@
 package com.techacademy;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class SecurityConfig {
+    /** 監視用エンドポイントの認証・認可設定（メトリクス収集ツール向けに、このURLのみHTTP Basic認証を受け付ける） */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        http.securityMatcher("/actuator/**")
+                .authorizeHttpRequests(auth -> auth.requestMatchers("/actuator/health").permitAll() // 死活監視は未ログインでアクセス可
+                        .anyRequest().hasAnyAuthority("ADMIN")) // メトリクス（prometheus含む）は管理者のみ
+                .httpBasic(Customizer.withDefaults()); // 管理者の従業員番号・パスワードで認証する
+
+        return http.build();
+    }
+
     /** 認証・認可設定 */
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.formLogin(login -> login.loginProcessingUrl("/login") // 従業員番号・パスワードの送信先
                 .loginPage("/login") // ログイン画面
@@ -21,14 +41,25 @@ public class SecurityConfig {
         ).logout(logout -> logout.logoutSuccessUrl("/login") // ログアウト後のリダイレクト先
         ).authorizeHttpRequests(
                 auth -> auth.requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll() // css等は未ログインでアクセス可
-                        .requestMatchers("/employees/**").hasAnyAuthority("ADMIN").anyRequest().authenticated()); // その他はログイン必要
+                        .requestMatchers("/employees/**").hasAnyAuthority("ADMIN")
+                        .requestMatchers("/reports/import", "/reports/export").hasAnyAuthority("ADMIN") // 日報一括登録・出力は管理者のみ
+                        .requestMatchers("/reports/stats/**").hasAnyAuthority("ADMIN") // 日報提出状況は管理者のみ
+                        .requestMatchers("/reports/compliance/**").hasAnyAuthority("ADMIN") // 日報未提出カレンダーは管理者のみ
+                        .anyRequest().authenticated()); // その他はログイン必要
 
         return http.build();
     }
 
-    /** ハッシュ化したパスワードの比較に使用する */
+    /** ハッシュ化したパスワードの比較に使用する（BCryptの同時実行数を制限し、混み合っている場合はすぐに拒否する） */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+            @Value("${security.bcrypt.strength:10}") int strength,
+            @Value("${security.bcrypt.pool-size:0}") int poolSize,
+            @Value("${security.bcrypt.queue-capacity:64}") int queueCapacity,
+            @Value("${security.bcrypt.timeout:500ms}") Duration timeout) {
+        // 同時実行数の指定がない場合はCPUコア数とする
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueCapacity, timeout,
+                meterRegistry);
     }
 }
\ No newline at end of file
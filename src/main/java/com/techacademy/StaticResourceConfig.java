@@ -0,0 +1,32 @@
+package com.techacademy;
+
+import java.time.Duration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    // 静的ファイル（css・js）はファイル内容のハッシュを含むURLで参照するため、ブラウザに1年間再検証なしで保持させる
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365)).cachePublic()
+            .immutable();
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        addVersionedResources(registry, "/css/**", "classpath:/static/css/");
+        addVersionedResources(registry, "/js/**", "classpath:/static/js/");
+    }
+
+    // テンプレートの@{...}はbootstrap.min-<ハッシュ>.cssのような形式に変換される
+    // ビルド時に作成した.gz・.brがあれば、ブラウザの対応に応じてそのまま返す（実行時には圧縮しない）
+    private void addVersionedResources(ResourceHandlerRegistry registry, String pathPattern, String location) {
+        registry.addResourceHandler(pathPattern).addResourceLocations(location).setCacheControl(CACHE_CONTROL)
+                .resourceChain(true).addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
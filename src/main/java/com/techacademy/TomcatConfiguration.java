@@ -1,32 +1,135 @@
 package com.techacademy; // ご自身の環境に合わせてください
 
 import org.apache.catalina.connector.Connector;
+import org.apache.catalina.core.StandardThreadExecutor;
 import org.apache.coyote.ajp.AjpNio2Protocol;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.thread.Threading;
 import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
 import org.springframework.boot.web.server.WebServerFactoryCustomizer;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 
 @Configuration
 public class TomcatConfiguration implements WebServerFactoryCustomizer<TomcatServletWebServerFactory> {
 
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public TomcatConfiguration(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
     @Override
     public void customize(TomcatServletWebServerFactory factory) {
+        // HTTPとAJPで共有するスレッドプール（仮想スレッドが有効な場合は使用しない）
+        StandardThreadExecutor executor = null;
+        if (!Threading.VIRTUAL.isActive(environment)
+                && environment.getProperty("server.tomcat.shared-executor.enabled", Boolean.class, true)) {
+            executor = sharedExecutor();
+            StandardThreadExecutor sharedExecutor = executor;
+            // Serviceに登録してコネクタより先に起動させ、HTTPのコネクタからも使用する
+            factory.addConnectorCustomizers(connector -> {
+                connector.getService().addExecutor(sharedExecutor);
+                connector.getProtocolHandler().setExecutor(sharedExecutor);
+            });
+        }
+
         // Tomcatとの通信手段にAJPを追加
-        factory.addAdditionalTomcatConnectors(ajpConnector());
+        if (environment.getProperty("server.ajp.enabled", Boolean.class, true)) {
+            factory.addAdditionalTomcatConnectors(ajpConnector(executor));
+        }
     }
 
-    private Connector ajpConnector() {
+    private Connector ajpConnector(StandardThreadExecutor executor) {
         // AJPの利用を宣言
         Connector connector = new Connector("org.apache.coyote.ajp.AjpNio2Protocol");
 
-        // AJPの通信で8009番ポートを使うための指定
-        connector.setPort(8009);
+        // AJPの通信で使うポートの指定（既定は8009番）
+        connector.setPort(environment.getProperty("server.ajp.port", Integer.class, 8009));
 
-        // secretという保護機能を利用しないようにする設定
+        // secretという保護機能を利用するかどうかの設定（既定は利用しない）
         AjpNio2Protocol protocol = (AjpNio2Protocol) connector.getProtocolHandler();
-        protocol.setSecretRequired(false);
+        protocol.setSecretRequired(environment.getProperty("server.ajp.secret-required", Boolean.class, false));
+        String secret = environment.getProperty("server.ajp.secret");
+        if (secret != null) {
+            protocol.setSecret(secret);
+        }
+
+        // 接続数・待ち受けキュー・キープアライブの設定（未指定の場合はTomcatの既定値）
+        Integer acceptCount = environment.getProperty("server.ajp.accept-count", Integer.class);
+        if (acceptCount != null) {
+            protocol.setAcceptCount(acceptCount);
+        }
+        Integer maxConnections = environment.getProperty("server.ajp.max-connections", Integer.class);
+        if (maxConnections != null) {
+            protocol.setMaxConnections(maxConnections);
+        }
+        Integer connectionTimeout = environment.getProperty("server.ajp.connection-timeout", Integer.class);
+        if (connectionTimeout != null) {
+            protocol.setConnectionTimeout(connectionTimeout);
+        }
+        Integer keepAliveTimeout = environment.getProperty("server.ajp.keep-alive-timeout", Integer.class);
+        if (keepAliveTimeout != null) {
+            protocol.setKeepAliveTimeout(keepAliveTimeout);
+        }
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // 仮想スレッドが有効な場合（Java 21以上でspring.threads.virtual.enabled=true）はAJPのリクエストも仮想スレッドで処理する
+            // （HTTPのコネクタはSpring Bootが仮想スレッドに切り替えるが、追加したコネクタは対象外のため）
+            protocol.setExecutor(new VirtualThreadExecutor("tomcat-ajp-"));
+        } else if (executor != null) {
+            // HTTPのコネクタと同じスレッドプールで処理する
+            protocol.setExecutor(executor);
+        } else {
+            // 共有しない場合はAJP専用のスレッド数を指定できる
+            Integer maxThreads = environment.getProperty("server.ajp.max-threads", Integer.class);
+            if (maxThreads != null) {
+                protocol.setMaxThreads(maxThreads);
+            }
+        }
+
+        // AJPの接続数をメトリクスとして公開する
+        Gauge.builder("tomcat.ajp.connections.current", protocol, AjpNio2Protocol::getConnectionCount)
+                .tags(Tags.of("port", String.valueOf(connector.getPort()))).register(meterRegistry);
 
         return connector;
     }
 
-}
\ No newline at end of file
+    // HTTPとAJPで共有する名前付きスレッドプール
+    private StandardThreadExecutor sharedExecutor() {
+        StandardThreadExecutor executor = new StandardThreadExecutor();
+        executor.setName(environment.getProperty("server.tomcat.shared-executor.name", "tomcatThreadPool"));
+        executor.setNamePrefix(executor.getName() + "-exec-");
+        executor.setMaxThreads(environment.getProperty("server.tomcat.shared-executor.max-threads", Integer.class, 200));
+        executor.setMinSpareThreads(
+                environment.getProperty("server.tomcat.shared-executor.min-spare-threads", Integer.class, 10));
+        executor.setMaxQueueSize(
+                environment.getProperty("server.tomcat.shared-executor.max-queue-size", Integer.class, Integer.MAX_VALUE));
+        executor.setMaxIdleTime(
+                environment.getProperty("server.tomcat.shared-executor.max-idle-time", Integer.class, 60000));
+
+        // 処理中のスレッド数・待ち行列の長さをメトリクスとして公開する
+        Tags tags = Tags.of("name", executor.getName());
+        Gauge.builder("tomcat.executor.threads.busy", executor, StandardThreadExecutor::getActiveCount)
+                .tags(tags).register(meterRegistry);
+        Gauge.builder("tomcat.executor.threads.current", executor, StandardThreadExecutor::getPoolSize)
+                .tags(tags).register(meterRegistry);
+        Gauge.builder("tomcat.executor.threads.max", executor, StandardThreadExecutor::getMaxThreads)
+                .tags(tags).register(meterRegistry);
+        Gauge.builder("tomcat.executor.queue.size", executor, e -> Math.max(e.getQueueSize(), 0))
+                .tags(tags).register(meterRegistry);
+        Gauge.builder("tomcat.executor.tasks.completed", executor, StandardThreadExecutor::getCompletedTaskCount)
+                .tags(tags).register(meterRegistry);
+
+        return executor;
+    }
+
+}
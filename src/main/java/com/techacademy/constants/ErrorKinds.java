@@ -19,6 +19,7 @@ public enum ErrorKinds {
     PASSWORD_BLANK_ERROR,  // パスワードの空白チェックエラー
     PASSWORD_RANGE_ERROR,  // パスワードの桁数超過チェックエラー
     PASSWORD_HALFSIZE_ERROR,  // パスワードの半角英数字チェックエラー
+    PASSWORD_BUSY_ERROR,  // パスワードの暗号化が混み合っている・タイムアウトした場合のエラー
 
     // 重複チェックエラー(例外あり)
     DUPLICATE_EXCEPTION_ERROR,
@@ -22,6 +22,9 @@ public class ErrorMessage {
             // パスワードの8文字～16文字チェック用エラーメッセージ
             put(ErrorKinds.RANGECHECK_ERROR,
                     new ArrayList<String>(Arrays.asList("passwordError", "8文字以上16文字以下で入力してください")));
+            // パスワード暗号化の混雑・タイムアウト時のエラーメッセージ
+            put(ErrorKinds.PASSWORD_BUSY_ERROR, new ArrayList<String>(
+                    Arrays.asList("passwordError", "混み合っているため登録できませんでした。しばらくしてから再度お試しください")));
             // 従業員番号重複チェック用エラーメッセージ
             put(ErrorKinds.DUPLICATE_EXCEPTION_ERROR,
                     new ArrayList<String>(Arrays.asList("codeError", "既に登録されている社員番号です")));
@@ -0,0 +1,31 @@
+package com.techacademy.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+// 詳細画面の条件付きGET
+// 更新日時とセッションからETagを作成し、ブラウザが保持している画面から変更がなければ304を返す
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    // 画面に変更がない場合は true を返す（ETag・Last-Modifiedヘッダも設定する）
+    static boolean isNotModified(WebRequest webRequest, HttpServletResponse response, LocalDateTime updatedAt) {
+        // ブラウザには保存させるが、表示のたびに再検証させる（ログイン中の従業員ごとの画面のためprivate）
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        // 画面にはログイン中の従業員ごとのメニューやCSRFトークンを含むため、セッションが変わった場合は再表示する
+        String etag = "\"" + DigestUtils.md5DigestAsHex(
+                (updatedAt + "|" + webRequest.getSessionId()).getBytes(StandardCharsets.UTF_8)) + "\"";
+        long lastModified = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return webRequest.checkNotModified(etag, lastModified);
+    }
+}
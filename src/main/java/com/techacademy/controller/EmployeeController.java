@@ -1,7 +1,5 @@
 package com.techacademy.controller;
 
-import java.util.List;
-
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -14,40 +12,46 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.WebRequest;
 
 import com.techacademy.constants.ErrorKinds;
 import com.techacademy.constants.ErrorMessage;
 import com.techacademy.entity.Employee;
-import com.techacademy.entity.Report;
 import com.techacademy.service.EmployeeService;
-import com.techacademy.service.ReportService; // ReportServiceをインポート
 import com.techacademy.service.UserDetail;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 @Controller
 @RequestMapping("employees")
 public class EmployeeController {
 
     private final EmployeeService employeeService;
-    private final ReportService reportService;  // ReportServiceのインジェクション
 
     @Autowired
-    public EmployeeController(EmployeeService employeeService, ReportService reportService) {
+    public EmployeeController(EmployeeService employeeService) {
         this.employeeService = employeeService;
-        this.reportService = reportService;  // ReportServiceのインジェクション
     }
 
     // 従業員一覧画面
     @GetMapping
     public String list(Model model) {
-        model.addAttribute("listSize", employeeService.findAll().size());
-        model.addAttribute("employeeList", employeeService.findAll());
+        model.addAttribute("listSize", employeeService.count());
+        model.addAttribute("employeeList", employeeService.findAllSummaries());
         return "employees/list";
     }
 
     // 従業員詳細画面
     @GetMapping(value = "/{code}/")
-    public String detail(@PathVariable String code, Model model) {
-        model.addAttribute("employee", employeeService.findByCode(code));
+    public String detail(@PathVariable String code, WebRequest webRequest, HttpServletResponse response, Model model) {
+        // 前回表示から従業員が更新されていなければ、描画せずに304を返す（更新日時はキャッシュした従業員から取得する）
+        Employee employee = employeeService.findByCode(code);
+        if (employee != null && employee.getUpdatedAt() != null
+                && ConditionalGet.isNotModified(webRequest, response, employee.getUpdatedAt())) {
+            return null;
+        }
+
+        model.addAttribute("employee", employee);
         return "employees/detail";
     }
 
@@ -138,17 +142,7 @@ public class EmployeeController {
  // 従業員削除処理
     @PostMapping(value = "/{code}/delete")
     public String delete(@PathVariable String code, @AuthenticationPrincipal UserDetail userDetail, Model model) {
-        // 1. 従業員削除前に、その従業員に関連する日報を削除
-        // 従業員コードに関連するすべての日報を削除する処理
-        List<Report> reports = reportService.findAllReports();  // すべての日報を取得
-        for (Report report : reports) {
-            if (report.getEmployee().getCode().equals(code)) {
-                // 従業員コードが一致する日報を削除
-                reportService.deleteReport(report.getId());  // ReportServiceのdeleteReportメソッドを利用
-            }
-        }
-
-        // 2. 従業員削除処理を実行
+        // 従業員削除処理を実行（関連する日報も同一トランザクション内で一括削除される）
         ErrorKinds result = employeeService.delete(code, userDetail);
 
         // エラーメッセージの処理
@@ -157,7 +151,7 @@ public class EmployeeController {
             String errorValue = ErrorMessage.getErrorValue(result); // エラーメッセージの値を取得
             model.addAttribute(errorName, errorValue);  // エラーメッセージを渡す
             model.addAttribute("employee", employeeService.findByCode(code));  // 削除後の従業員情報を表示
-            return detail(code, model);  // 詳細画面に戻る
+            return "employees/detail";  // 詳細画面に戻る
         }
 
         // 従業員削除後、従業員一覧画面にリダイレクト
@@ -0,0 +1,52 @@
+package com.techacademy.controller;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.techacademy.service.ReportComplianceService;
+
+@Controller
+@RequestMapping("reports/compliance")
+public class ReportComplianceController {
+
+    private final ReportComplianceService reportComplianceService;
+
+    @Autowired
+    public ReportComplianceController(ReportComplianceService reportComplianceService) {
+        this.reportComplianceService = reportComplianceService;
+    }
+
+    // 日報未提出カレンダー画面（指定した月から1か月または3か月（四半期）分、月の指定がなければ当月）
+    @GetMapping
+    public String calendar(@RequestParam(required = false) YearMonth month,
+            @RequestParam(defaultValue = "1") int months, Model model) {
+        YearMonth firstMonth = month != null ? month : YearMonth.now();
+        int period = months == 3 ? 3 : 1;
+        model.addAttribute("month", firstMonth);
+        model.addAttribute("months", period);
+        model.addAttribute("calendar", reportComplianceService.findCalendar(firstMonth, period));
+
+        // 本日の未提出者（土日は表示しない）
+        LocalDate today = LocalDate.now();
+        if (today.getDayOfWeek() != DayOfWeek.SATURDAY && today.getDayOfWeek() != DayOfWeek.SUNDAY) {
+            model.addAttribute("missingToday", reportComplianceService.findMissingOn(today));
+        }
+        return "reports/compliance";
+    }
+
+    // 提出状況の索引の再作成処理（全日報から作り直す）
+    @PostMapping("/rebuild")
+    public String rebuild() {
+        reportComplianceService.rebuild();
+        return "redirect:/reports/compliance";
+    }
+}
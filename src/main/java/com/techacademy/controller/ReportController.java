@@ -1,6 +1,17 @@
 package com.techacademy.controller;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -10,43 +21,114 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
 
 import com.techacademy.constants.ErrorKinds;
 import com.techacademy.constants.ErrorMessage;
 import com.techacademy.entity.Employee;
 import com.techacademy.entity.Report;
+import com.techacademy.service.ReportExportService;
+import com.techacademy.service.ReportImportService;
+import com.techacademy.service.ReportListCache;
+import com.techacademy.service.ReportPage;
 import com.techacademy.service.ReportService;
 import com.techacademy.service.EmployeeService;  // 追加
 import com.techacademy.service.UserDetail;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 @Controller
 @RequestMapping("reports")
 public class ReportController {
 
     private final ReportService reportService;
     private final EmployeeService employeeService;  // 追加
+    private final ReportImportService reportImportService;
+    private final ReportExportService reportExportService;
+    private final ReportListCache reportListCache;
+    private final SpringTemplateEngine templateEngine;
+    private final int pageSize;  // 日報一覧の1ページあたりの件数
 
     @Autowired
-    public ReportController(ReportService reportService, EmployeeService employeeService) {  // 修正
+    public ReportController(ReportService reportService, EmployeeService employeeService,
+            ReportImportService reportImportService, ReportExportService reportExportService,
+            ReportListCache reportListCache, SpringTemplateEngine templateEngine,
+            @Value("${report.list.page-size:20}") int pageSize) {  // 修正
         this.reportService = reportService;
         this.employeeService = employeeService;  // 追加
+        this.reportImportService = reportImportService;
+        this.reportExportService = reportExportService;
+        this.reportListCache = reportListCache;
+        this.templateEngine = templateEngine;
+        this.pageSize = pageSize;
     }
 
     // 日報一覧画面
     @GetMapping
-    public String list(Model model) {
-        model.addAttribute("listSize", reportService.findAllReports().size());
-        model.addAttribute("reportList", reportService.findAllReports());
+    public String list(@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate afterDate,
+            @RequestParam(required = false) Integer afterId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate beforeDate,
+            @RequestParam(required = false) Integer beforeId, HttpServletRequest request, HttpServletResponse response,
+            Model model) {
+        // 日報の表・ページ送り・件数はユーザーによらず同じため、日報が変更されるまで描画結果を再利用する
+        // （ログアウトフォームのCSRFトークンや権限ごとのボタンを含む部分は毎回描画する）
+        String page = afterDate + "," + afterId + "," + beforeDate + "," + beforeId;
+        String reportTable = reportListCache.get(page, () -> {
+            ReportPage reportPage = reportService.findReportPage(afterDate, afterId, beforeDate, beforeId, pageSize);
+            model.addAttribute("listSize", reportService.countReports());
+            model.addAttribute("reportPage", reportPage);
+            model.addAttribute("reportList", reportPage.getReportList());
+            return renderReportTable(model, request, response);
+        });
+        model.addAttribute("reportTable", reportTable);
         return "reports/list";  // 日報一覧のビュー
     }
 
+    // 日報一覧の表・ページ送り・件数（reports/list_table.html）をHTMLの文字列に描画する
+    private String renderReportTable(Model model, HttpServletRequest request, HttpServletResponse response) {
+        WebContext context = new WebContext(JakartaServletWebApplication.buildApplication(request.getServletContext())
+                .buildExchange(request, response), request.getLocale(), model.asMap());
+        return templateEngine.process("reports/list_table", Set.of("table"), context);
+    }
+
+    // 日報検索画面（タイトル・内容の全文検索）
+    @GetMapping("/search")
+    public String search(@RequestParam(name = "q", defaultValue = "") String keyword,
+            @RequestParam(defaultValue = "0") int page, Model model) {
+        model.addAttribute("q", keyword);
+        if (keyword.isBlank()) {
+            return "reports/search";  // キーワード未入力の場合は検索しない
+        }
+
+        int currentPage = Math.max(page, 0);
+        ReportPage reportPage = reportService.searchReports(keyword.strip(), currentPage, pageSize);
+        model.addAttribute("page", currentPage);
+        model.addAttribute("reportPage", reportPage);
+        model.addAttribute("reportList", reportPage.getReportList());
+        return "reports/search";
+    }
+
     // 日報詳細画面
     @GetMapping(value = "/{id}/details")
-    public String detail(@PathVariable Integer id, @AuthenticationPrincipal UserDetail userDetail, Model model) {
+    public String detail(@PathVariable Integer id, @AuthenticationPrincipal UserDetail userDetail, WebRequest webRequest,
+            HttpServletResponse response, Model model) {
         if (userDetail == null) {
             return "redirect:/login";
         }
 
+        // 前回表示から日報・従業員が更新されていなければ、日報を取得・描画せずに304を返す
+        LocalDateTime lastModified = reportService.findLastModified(id);
+        if (lastModified != null && ConditionalGet.isNotModified(webRequest, response, lastModified)) {
+            return null;
+        }
+
         Report report = reportService.findById(id);
         if (report == null) {
             return "redirect:/reports";
@@ -76,12 +158,6 @@ public class ReportController {
             return "reports/new";  // 新規登録画面に戻る
         }
 
-        // 日付重複チェック
-        if (reportService.isDateDuplicate(userDetail.getEmployee().getCode(), report.getReportDate(), null)) {
-            model.addAttribute("reportDateDuplicate", true);
-            return "reports/new";  // 重複エラーがあれば新規登録画面に戻る
-        }
-
         // 新規登録処理
         report.setEmployee(userDetail.getEmployee());
         ErrorKinds result = reportService.createReport(report, userDetail.getEmployee().getCode());
@@ -95,6 +171,38 @@ public class ReportController {
         return "redirect:/reports";  // 登録成功後は日報一覧に遷移
     }
 
+    // 日報一括登録画面表示
+    @GetMapping("/import")
+    public String importForm() {
+        return "reports/import";
+    }
+
+    // 日報一括登録処理（CSVを1行ずつ読み込んで登録する）
+    @PostMapping("/import")
+    public String importCsv(@RequestParam("file") MultipartFile file, Model model) throws IOException {
+        if (file.isEmpty()) {
+            model.addAttribute("fileError", "ファイルを選択してください");
+            return "reports/import";
+        }
+
+        model.addAttribute("importResult", reportImportService.importCsv(file.getInputStream()));
+        return "reports/import";
+    }
+
+    // 日報一括出力処理（CSV・JSON、取得した日報を順次レスポンスへ書き出す）
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "csv") String format) {
+        if ("json".equals(format)) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reports.json\"")
+                    .body(reportExportService::exportJson);
+        }
+
+        return ResponseEntity.ok().contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reports.csv\"")
+                .body(reportExportService::exportCsv);
+    }
+
     // 日報更新画面表示
     @GetMapping("/{id}/update")
     public String updateForm(@PathVariable Integer id, @AuthenticationPrincipal UserDetail userDetail, Model model) {
@@ -108,7 +216,7 @@ public class ReportController {
         }
 
         model.addAttribute("report", report);
-        return "reports/update";  // 更新画面を表示
+        return "reports/Update";  // 更新画面を表示
     }
 
  // 従業員更新処理
@@ -0,0 +1,42 @@
+package com.techacademy.controller;
+
+import java.time.YearMonth;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import com.techacademy.service.ReportStatsService;
+
+@Controller
+@RequestMapping("reports/stats")
+public class ReportStatsController {
+
+    private final ReportStatsService reportStatsService;
+
+    @Autowired
+    public ReportStatsController(ReportStatsService reportStatsService) {
+        this.reportStatsService = reportStatsService;
+    }
+
+    // 日報提出状況画面（従業員ごとの月間の提出件数・未提出日数、月の指定がなければ当月）
+    @GetMapping
+    public String stats(@RequestParam(required = false) YearMonth month, Model model) {
+        YearMonth targetMonth = month != null ? month : YearMonth.now();
+        model.addAttribute("month", targetMonth);
+        model.addAttribute("statsList", reportStatsService.findMonthlyStats(targetMonth));
+        return "reports/stats";
+    }
+
+    // 提出件数の再集計処理（全日報から集計し直す）
+    @PostMapping("/rebuild")
+    public String rebuild(RedirectAttributes redirectAttributes) {
+        redirectAttributes.addFlashAttribute("rebuiltCount", reportStatsService.rebuild());
+        return "redirect:/reports/stats";
+    }
+}
@@ -11,18 +11,23 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
 @Data
 @Entity
-@Table(name = "reports")
+// 日報一覧のキーセットページング（日付の降順、IDの降順）用のインデックス
+// 同じ従業員・同じ日付の日報は1件のみ（同時に登録された場合もDBで重複を防ぐ）
+@Table(name = "reports", indexes = @Index(name = "idx_reports_date_id", columnList = "report_date, id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_reports_employee_date", columnNames = { "employee_code", "report_date" }))
 public class Report {
 
     // ID
@@ -1,9 +1,16 @@
 package com.techacademy.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.techacademy.entity.Employee;
 
 public interface EmployeeRepository extends JpaRepository<Employee, String> {
+
+    // 従業員一覧画面に表示する項目のみを取得する（社員番号の昇順）
+    @Query("SELECT e.code AS code, e.name AS name FROM Employee e ORDER BY e.code")
+    List<EmployeeSummary> findAllSummaries();
 }
 
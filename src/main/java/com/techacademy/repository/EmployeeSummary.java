@@ -0,0 +1,11 @@
+package com.techacademy.repository;
+
+// 従業員一覧画面で表示する項目のみを取得するための射影
+public interface EmployeeSummary {
+
+    // 社員番号
+    String getCode();
+
+    // 氏名
+    String getName();
+}
@@ -1,28 +1,85 @@
 package com.techacademy.repository;
 
 import com.techacademy.entity.Report;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 public interface ReportRepository extends JpaRepository<Report, Integer> {
 
-    // 同じ日付のレポートが存在するかチェック（削除フラグが立っていない）
-    @Query("SELECT r FROM Report r WHERE r.reportDate = :reportDate AND r.deleteFlg = false")
-    Optional<Report> findByReportDate(LocalDate reportDate);
+    // 全日報を従業員情報と合わせて1回のSQLで取得する
+    @Override
+    @EntityGraph(attributePaths = "employee")
+    List<Report> findAll();
 
-    // 同じ日付の重複を除外してチェックする（指定したIDを除外してチェック）
-    @Query("SELECT r FROM Report r WHERE r.reportDate = :reportDate AND r.id != :excludeId AND r.deleteFlg = false")
-    Optional<Report> findDuplicateReport(LocalDate reportDate, Integer excludeId);
+    // 同じ従業員・同じ日付の日報が存在するか（一意インデックス uk_reports_employee_date で1行のみ確認する）
+    boolean existsByEmployee_CodeAndReportDate(String employeeCode, LocalDate reportDate);
 
-    // 日報IDで日報を取得する（削除フラグが立っていないもの）
+    // 日報IDで日報を取得する（削除フラグが立っていないもの、従業員情報も合わせて取得）
+    @EntityGraph(attributePaths = "employee")
     Optional<Report> findByIdAndDeleteFlgFalse(Integer id);
 
+    // 日報詳細画面の最終更新日時（日報と従業員の更新日時の新しい方）を取得する（再表示が必要かの判定用）
+    @Query("SELECT GREATEST(r.updatedAt, e.updatedAt) FROM Report r JOIN r.employee e"
+            + " WHERE r.id = :id AND r.deleteFlg = false")
+    Optional<LocalDateTime> findLastModifiedById(Integer id);
+
     // 日報IDで日報を物理削除する
     void deleteById(Integer id);  // これで物理削除が可能
 
-    List<Report> findByEmployee_CodeAndReportDate(String employeeCode, LocalDate reportDate);
+    // タイトル・内容の全文検索（ngramパーサーのFULLTEXTインデックスを使用し、関連度の高い順に取得）
+    @Query(value = "SELECT r.id AS id, r.report_date AS reportDate, r.title AS title, e.name AS employeeName"
+            + " FROM reports r JOIN employees e ON e.code = r.employee_code"
+            + " WHERE MATCH(r.title, r.content) AGAINST(:keyword IN NATURAL LANGUAGE MODE)"
+            + " AND r.delete_flg = false AND e.delete_flg = false"
+            + " ORDER BY MATCH(r.title, r.content) AGAINST(:keyword IN NATURAL LANGUAGE MODE) DESC, r.id DESC"
+            + " LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<ReportSummary> searchByKeyword(String keyword, int limit, int offset);
+
+    // 日報出力用に全日報を従業員情報と合わせて1件ずつ取得する（一定件数ずつフェッチし、読み取り専用で取得）
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT r FROM Report r JOIN FETCH r.employee WHERE r.deleteFlg = false ORDER BY r.id")
+    Stream<Report> streamAllForExport();
+
+    // 従業員コードに紐づく日報を1回のSQLで物理削除する
+    @Modifying
+    @Query("DELETE FROM Report r WHERE r.employee.code = :employeeCode")
+    int deleteByEmployeeCode(String employeeCode);
+
+    // 削除フラグが立っていない日報の件数を取得する（COUNTのみで件数を求める）
+    long countByDeleteFlgFalse();
+
+    // 日報一覧の先頭ページを取得する（日付の降順、IDの降順、一覧に表示する項目のみ）
+    @Query("SELECT r.id AS id, r.reportDate AS reportDate, r.title AS title, e.name AS employeeName"
+            + " FROM Report r JOIN r.employee e WHERE r.deleteFlg = false"
+            + " ORDER BY r.reportDate DESC, r.id DESC")
+    List<ReportSummary> findFirstPage(Pageable pageable);
+
+    // 指定した日報より古い側のページを取得する（日付の降順、IDの降順）
+    @Query("SELECT r.id AS id, r.reportDate AS reportDate, r.title AS title, e.name AS employeeName"
+            + " FROM Report r JOIN r.employee e WHERE r.deleteFlg = false"
+            + " AND (r.reportDate < :reportDate OR (r.reportDate = :reportDate AND r.id < :id))"
+            + " ORDER BY r.reportDate DESC, r.id DESC")
+    List<ReportSummary> findPageAfter(LocalDate reportDate, Integer id, Pageable pageable);
+
+    // 指定した日報より新しい側のページを取得する（昇順で取得するため呼び出し側で反転する）
+    @Query("SELECT r.id AS id, r.reportDate AS reportDate, r.title AS title, e.name AS employeeName"
+            + " FROM Report r JOIN r.employee e WHERE r.deleteFlg = false"
+            + " AND (r.reportDate > :reportDate OR (r.reportDate = :reportDate AND r.id > :id))"
+            + " ORDER BY r.reportDate ASC, r.id ASC")
+    List<ReportSummary> findPageBefore(LocalDate reportDate, Integer id, Pageable pageable);
 }
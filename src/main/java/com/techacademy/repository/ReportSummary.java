@@ -0,0 +1,19 @@
+package com.techacademy.repository;
+
+import java.time.LocalDate;
+
+// 日報一覧画面で表示する項目のみを取得するための射影
+public interface ReportSummary {
+
+    // ID
+    Integer getId();
+
+    // 日付
+    LocalDate getReportDate();
+
+    // タイトル
+    String getTitle();
+
+    // 従業員の氏名
+    String getEmployeeName();
+}
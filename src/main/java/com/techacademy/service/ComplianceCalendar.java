@@ -0,0 +1,44 @@
+package com.techacademy.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 日報の未提出カレンダー（期間内の平日ごとの未提出の従業員）
+@Getter
+@AllArgsConstructor
+public class ComplianceCalendar {
+
+    // 表示する期間の初日・最終日
+    private final LocalDate from;
+    private final LocalDate to;
+
+    // 期間内の平日（本日まで）
+    private final List<LocalDate> businessDays;
+
+    // 未提出の日がある従業員（社員番号の昇順）
+    private final List<Row> rows;
+
+    // 在籍中の従業員数
+    private final int employeeCount;
+
+    // 従業員1名分の行
+    @Getter
+    @AllArgsConstructor
+    public static class Row {
+
+        // 社員番号
+        private final String employeeCode;
+
+        // 氏名
+        private final String employeeName;
+
+        // 平日ごとの未提出（businessDaysと同じ並び）
+        private final List<Boolean> missing;
+
+        // 未提出日数
+        private final int missedDays;
+    }
+}
@@ -0,0 +1,131 @@
+package com.techacademy.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// CSVを1レコードずつ読み込むクラス（ダブルクォートで囲まれた値の中のカンマ・改行に対応）
+class CsvReader {
+
+    // 1項目あたりの最大文字数（これを超える分は保持せず、レコードを長すぎるものとして扱う）
+    static final int MAX_FIELD_LENGTH = 4096;
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+
+    // 読み戻した文字
+    private int pushback = NONE;
+
+    private boolean first = true;
+
+    // 直前に読み込んだレコードに最大文字数を超える項目があったか
+    private boolean tooLong;
+
+    // 次に読み込む文字のファイル上の行番号（引用符内の改行も1行と数える）
+    private long lineNumber = 1;
+    // 直前に読み込んだ文字がCRだったか（CRLFを1つの改行として数える）
+    private boolean lastCr;
+    // 直前に読み込んだレコードの開始行
+    private long recordLineNumber;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // 次のレコードを読み込む（ファイルの終わりに達した場合はnullを返す）
+    List<String> readRecord() throws IOException {
+        recordLineNumber = lineNumber;
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        tooLong = false;
+        List<String> fields = new ArrayList<String>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    // 閉じられていないダブルクォートはファイルの終わりまでを値とする
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    int n = read();
+                    if (n != '"') {
+                        // 値の終わり
+                        quoted = false;
+                        c = n;
+                        continue;
+                    }
+                }
+                append(field, c);
+            } else {
+                if (c == -1 || c == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') {
+                        pushback = n;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else {
+                    append(field, c);
+                }
+            }
+            c = read();
+        }
+    }
+
+    // 直前に読み込んだレコードが始まるファイル上の行番号（1から数える）
+    long getLineNumber() {
+        return recordLineNumber;
+    }
+
+    // 直前に読み込んだレコードに最大文字数を超える項目があった場合はtrueを返す（項目の値は途中までとなる）
+    boolean isTooLong() {
+        return tooLong;
+    }
+
+    private void append(StringBuilder field, int c) {
+        if (field.length() < MAX_FIELD_LENGTH) {
+            field.append((char) c);
+        } else {
+            tooLong = true;
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushback != NONE) {
+            int c = pushback;
+            pushback = NONE;
+            return c;
+        }
+        int c = reader.read();
+        // 先頭のBOMは読み飛ばす
+        if (first) {
+            first = false;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        // LF・CRLF・CRのいずれも1つの改行として行番号を進める
+        if (c == '\n' || (lastCr && c != -1)) {
+            lineNumber++;
+        }
+        lastCr = c == '\r';
+        return c;
+    }
+}
@@ -0,0 +1,257 @@
+package com.techacademy.service;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 動作確認・負荷試験用の大量データ生成（datagen.enabled=true で起動した場合のみ実行）
+// 例: --datagen.enabled=true --datagen.employees=38000 --datagen.years=1 で約1,000万件の日報を登録する
+@Component
+@ConditionalOnProperty(name = "datagen.enabled", havingValue = "true")
+public class DataGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DataGenerator.class);
+
+    private static final String EMPLOYEE_SQL = "INSERT INTO employees"
+            + " (code, name, role, password, delete_flg, created_at, updated_at) VALUES (?, ?, ?, ?, 0, ?, ?)";
+    private static final String REPORT_SQL = "INSERT INTO reports"
+            + " (report_date, title, content, employee_code, delete_flg, created_at, updated_at)"
+            + " VALUES (?, ?, ?, ?, false, ?, ?)";
+
+    private static final String[] LAST_NAMES = { "佐藤", "鈴木", "高橋", "田中", "伊藤", "渡辺", "山本", "中村", "小林", "加藤",
+            "吉田", "山田", "佐々木", "山口", "松本", "井上", "木村", "林", "斎藤", "清水" };
+    private static final String[] FIRST_NAMES = { "太郎", "花子", "翔太", "美咲", "大輔", "陽菜", "健一", "由美", "拓也", "さくら",
+            "直樹", "愛", "和也", "恵", "誠", "結衣", "亮", "舞", "浩二", "真由美" };
+    private static final String[] TITLES = { "本日の業務報告", "顧客訪問の報告", "定例会議の議事録と今後の対応", "新規案件の提案準備について",
+            "システム障害対応の経過報告", "研修受講の報告", "見積書作成と社内調整", "週次の進捗と課題の共有", "展示会への出展準備", "請求処理と経費精算",
+            "採用面接の実施報告", "取引先との打ち合わせ（仕様確認）" };
+    private static final String[] SENTENCES = { "午前中は取引先を訪問し、来期の発注計画についてヒアリングを行いました。",
+            "先方からは納期の短縮について強い要望があり、社内で対応可否を検討することになりました。", "午後は提案資料の作成を進め、課長にレビューを依頼しました。",
+            "定例会議では各チームの進捗を共有し、遅れている作業の担当を見直しました。", "問い合わせ対応が3件あり、うち1件は技術部門へエスカレーションしました。",
+            "見積書の金額に誤りが見つかったため、修正版を再送付しました。", "明日は午前中に社内研修、午後に新規顧客との初回打ち合わせを予定しています。",
+            "在庫の確認作業を行い、発注点を下回っている品目について発注を手配しました。", "前回の打ち合わせで持ち帰った課題について、回答案をまとめました。",
+            "業務手順書の改訂を進め、関係者に確認を依頼しました。", "経費精算と請求書の処理を行い、月末締めの準備を完了しました。",
+            "新人の業務サポートを行い、システムの操作方法を説明しました。", "障害の原因は設定ファイルの誤りであることが判明し、修正後に動作を確認しました。",
+            "来週の展示会に向けて、配布資料と説明用のデモ環境を準備しました。", "特に問題なく業務を終えました。" };
+
+    // 日報の内容の切り出し元（起動時に1度だけ作成する）
+    private static final String TEXT;
+    static {
+        StringBuilder text = new StringBuilder();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (text.length() < 20000) {
+            text.append(SENTENCES[random.nextInt(SENTENCES.length)]);
+        }
+        TEXT = text.toString();
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ReportStatsService reportStatsService;
+    private final ReportComplianceService reportComplianceService;
+    private final ReportListCache reportListCache;
+    private final int employees;
+    private final int years;
+    private final boolean weekdaysOnly;
+    private final String codePrefix;
+    private final String password;
+    private final int batchSize;
+    private final int threads;
+
+    // 登録済みの日報件数（進捗表示用）
+    private final AtomicLong insertedReports = new AtomicLong();
+
+    @Autowired
+    public DataGenerator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            PasswordEncoder passwordEncoder, ReportStatsService reportStatsService,
+            ReportComplianceService reportComplianceService, ReportListCache reportListCache,
+            @Value("${datagen.employees:100}") int employees,
+            @Value("${datagen.years:1}") int years,
+            @Value("${datagen.weekdays-only:true}") boolean weekdaysOnly,
+            @Value("${datagen.code-prefix:G}") String codePrefix,
+            @Value("${datagen.password:password1}") String password,
+            @Value("${datagen.batch-size:2000}") int batchSize,
+            @Value("${datagen.threads:4}") int threads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.reportStatsService = reportStatsService;
+        this.reportComplianceService = reportComplianceService;
+        this.reportListCache = reportListCache;
+        this.employees = employees;
+        this.years = years;
+        this.weekdaysOnly = weekdaysOnly;
+        this.codePrefix = codePrefix;
+        this.password = password;
+        this.batchSize = batchSize;
+        this.threads = threads;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        // 生成済みの場合は何もしない（同じ社員番号で重複登録しない）
+        Integer exists = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees WHERE code = ?", Integer.class,
+                code(1));
+        if (exists != null && exists > 0) {
+            log.info("データ生成：社員番号{}が登録済みのため生成しません", code(1));
+            return;
+        }
+
+        long start = System.nanoTime();
+        // BCryptの計算は1回のみ行い、全従業員で同じハッシュを使用する
+        String encodedPassword = passwordEncoder.encode(password);
+        insertEmployees(encodedPassword);
+
+        // 従業員を分割して並行して日報を登録する
+        List<LocalDate> dates = reportDates();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        try {
+            int perThread = (employees + threads - 1) / threads;
+            for (int from = 1; from <= employees; from += perThread) {
+                int first = from;
+                int last = Math.min(from + perThread - 1, employees);
+                futures.add(executor.submit(() -> insertReports(first, last, dates)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException | InterruptedException e) {
+            // 残りの登録を中止し、実行中のバッチが終わるのを待ってから、登録済みの日報で集計等を作り直す
+            futures.forEach(future -> future.cancel(true));
+            executor.shutdownNow();
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.warn("データ生成：日報の登録処理が停止しないため、停止を待たずに集計を作り直します");
+            }
+            log.error("データ生成：日報の登録に失敗したため中止しました（登録済みの日報 {} 件は削除されません）",
+                    insertedReports.get());
+            refreshDerivedData();
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw e;
+        } finally {
+            executor.shutdown();
+        }
+
+        refreshDerivedData();
+
+        log.info("データ生成：従業員 {} 件、日報 {} 件を登録しました（{} 秒）", employees, insertedReports.get(),
+                (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    // SQLで直接登録したため、提出件数の集計・提出日は全日報から作り直し、日報一覧のキャッシュも破棄する
+    private void refreshDerivedData() {
+        reportStatsService.rebuild();
+        reportComplianceService.rebuild();
+        reportListCache.invalidate();
+    }
+
+    // 従業員の登録（パスワードは生成済みのハッシュ、登録日時は最初の日報の日付より前とする）
+    private void insertEmployees(String encodedPassword) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDate.now().minusYears(years).atStartOfDay());
+        List<Object[]> batch = new ArrayList<Object[]>(batchSize);
+        for (int i = 1; i <= employees; i++) {
+            batch.add(new Object[] { code(i), name(i), i % 50 == 1 ? "ADMIN" : "GENERAL", encodedPassword, createdAt,
+                    createdAt });
+            if (batch.size() >= batchSize) {
+                flush(EMPLOYEE_SQL, batch);
+            }
+        }
+        flush(EMPLOYEE_SQL, batch);
+    }
+
+    // 指定した範囲の従業員の日報を登録する
+    private void insertReports(int first, int last, List<LocalDate> dates) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Object[]> batch = new ArrayList<Object[]>(batchSize);
+        for (int i = first; i <= last; i++) {
+            // 他のスレッドの失敗で中止された場合は、未登録の分を登録せずに終了する
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            String code = code(i);
+            for (LocalDate date : dates) {
+                Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(date, LocalTime.of(18, random.nextInt(60))));
+                batch.add(new Object[] { date, TITLES[random.nextInt(TITLES.length)], content(random), code, createdAt,
+                        createdAt });
+                if (batch.size() >= batchSize) {
+                    flushReports(batch);
+                }
+            }
+        }
+        flushReports(batch);
+    }
+
+    private void flushReports(List<Object[]> batch) {
+        int size = batch.size();
+        flush(REPORT_SQL, batch);
+        // 100万件ごとに進捗を表示する
+        long total = insertedReports.addAndGet(size);
+        if (total / 1_000_000 != (total - size) / 1_000_000) {
+            log.info("データ生成：日報 {} 件", total);
+        }
+    }
+
+    // 溜めた行をJDBCのバッチで登録する（バッチごとにコミット）
+    private void flush(String sql, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, batch));
+        batch.clear();
+    }
+
+    // 昨日から遡って指定年数分の日付（平日のみの指定があれば土日を除く）
+    private List<LocalDate> reportDates() {
+        LocalDate end = LocalDate.now().minusDays(1);
+        List<LocalDate> dates = new ArrayList<LocalDate>();
+        for (LocalDate date = end.minusYears(years).plusDays(1); !date.isAfter(end); date = date.plusDays(1)) {
+            if (weekdaysOnly && (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY)) {
+                continue;
+            }
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    // 社員番号（接頭辞＋連番、10文字以内）
+    private String code(int number) {
+        return codePrefix + String.format("%07d", number);
+    }
+
+    // 氏名（姓と名の組み合わせ）
+    private String name(int number) {
+        return LAST_NAMES[number % LAST_NAMES.length] + "　" + FIRST_NAMES[(number / LAST_NAMES.length) % FIRST_NAMES.length];
+    }
+
+    // 日報の内容（入力チェックの上限600文字までの長さで切り出す）
+    private String content(ThreadLocalRandom random) {
+        int length = 50 + random.nextInt(551);
+        int start = random.nextInt(TEXT.length() - length);
+        return TEXT.substring(start, start + length);
+    }
+}
@@ -0,0 +1,76 @@
+package com.techacademy.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.techacademy.entity.Employee;
+import com.techacademy.repository.EmployeeRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 社員番号をキーとした従業員情報のキャッシュ（件数・有効期限の上限あり）
+@Component
+public class EmployeeCache {
+
+    private final EmployeeRepository employeeRepository;
+    private final Cache<String, Employee> cache;
+
+    @Autowired
+    public EmployeeCache(EmployeeRepository employeeRepository, MeterRegistry meterRegistry,
+            @Value("${employee.cache.maximum-size:10000}") long maximumSize,
+            @Value("${employee.cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.employeeRepository = employeeRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        // ヒット数・ミス数などをメトリクスとして公開する
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "employees");
+    }
+
+    // 社員番号で従業員を取得する（キャッシュにない場合はDBから取得し、存在しない場合はnullを返す）
+    public Employee get(String code) {
+        // 論理削除された従業員はfindByIdで取得されないため、キャッシュにも載らない
+        Employee cached = cache.get(code, key -> employeeRepository.findById(key).map(this::copy).orElse(null));
+        // 呼び出し側で変更されてもキャッシュに影響しないよう複製を返す
+        return cached == null ? null : copy(cached);
+    }
+
+    // 従業員情報の変更時にキャッシュから削除する
+    public void invalidate(String code) {
+        cache.invalidate(code);
+
+        // コミット前に他のリクエストが古い情報を再度キャッシュしないよう、コミット後にも削除する
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(code);
+                }
+            });
+        }
+    }
+
+    // 日報一覧（reportList）を除いた従業員情報の複製
+    private Employee copy(Employee employee) {
+        Employee copy = new Employee();
+        copy.setCode(employee.getCode());
+        copy.setName(employee.getName());
+        copy.setRole(employee.getRole());
+        copy.setPassword(employee.getPassword());
+        copy.setDeleteFlg(employee.isDeleteFlg());
+        copy.setCreatedAt(employee.getCreatedAt());
+        copy.setUpdatedAt(employee.getUpdatedAt());
+        return copy;
+    }
+}
@@ -2,7 +2,6 @@ package com.techacademy.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -10,21 +9,40 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.techacademy.BoundedPasswordEncoder;
 import com.techacademy.constants.ErrorKinds;
 import com.techacademy.entity.Employee;
 import com.techacademy.repository.EmployeeRepository;
+import com.techacademy.repository.EmployeeSummary;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.annotation.Timed;
+
+// 各メソッドの呼び出し回数・処理時間をメトリクスとして公開する（メソッド名ごと）
+@Timed(value = "employee.service", histogram = true)
 @Service
 public class EmployeeService {
 
+    // 半角英数字チェック用の正規表現（呼び出しごとにコンパイルしないよう1度だけ生成する）
+    private static final Pattern HALF_SIZE_PATTERN = Pattern.compile("^[A-Za-z0-9]+$");
+
     private final EmployeeRepository employeeRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ReportService reportService;
+    private final EmployeeCache employeeCache;
+    private final ReportListCache reportListCache;
+    private final ReportComplianceService reportComplianceService;
 
     @Autowired
-    public EmployeeService(EmployeeRepository employeeRepository, PasswordEncoder passwordEncoder) {
+    public EmployeeService(EmployeeRepository employeeRepository, PasswordEncoder passwordEncoder,
+            ReportService reportService, EmployeeCache employeeCache, ReportListCache reportListCache,
+            ReportComplianceService reportComplianceService) {
         this.employeeRepository = employeeRepository;
         this.passwordEncoder = passwordEncoder;
+        this.reportService = reportService;
+        this.employeeCache = employeeCache;
+        this.reportListCache = reportListCache;
+        this.reportComplianceService = reportComplianceService;
     }
 
     // 従業員保存
@@ -49,6 +67,9 @@ public class EmployeeService {
         employee.setUpdatedAt(now);
 
         employeeRepository.save(employee);
+        employeeCache.invalidate(employee.getCode());
+        // 日報未提出カレンダーの在籍中の従業員を読み込み直す
+        reportComplianceService.invalidateEmployees();
         return ErrorKinds.SUCCESS;
     }
 
@@ -60,11 +81,20 @@ public class EmployeeService {
         if (code.equals(userDetail.getEmployee().getCode())) {
             return ErrorKinds.LOGINCHECK_ERROR;
         }
-        Employee employee = findByCode(code);
+
+        // 従業員に紐づく日報を同一トランザクション内で一括削除する
+        reportService.deleteReportsByEmployeeCode(code);
+
+        // 論理削除は変更検知で反映するため、キャッシュではなく管理対象の従業員を取得する
+        Employee employee = employeeRepository.findById(code).orElse(null);
         LocalDateTime now = LocalDateTime.now();
         employee.setUpdatedAt(now);
         employee.setDeleteFlg(true);
 
+        // 論理削除した従業員がキャッシュから取得されないよう削除する
+        employeeCache.invalidate(code);
+        reportComplianceService.invalidateEmployees();
+
         return ErrorKinds.SUCCESS;
     }
 
@@ -73,12 +103,23 @@ public class EmployeeService {
         return employeeRepository.findAll();
     }
 
+    // 従業員一覧表示処理（一覧に表示する項目のみ）
+    @Transactional(readOnly = true)
+    public List<EmployeeSummary> findAllSummaries() {
+        return employeeRepository.findAllSummaries();
+    }
+
+    // 従業員件数取得処理（論理削除された従業員は含まない）
+    @Transactional(readOnly = true)
+    public long count() {
+        return employeeRepository.count();
+    }
+
     // 1件を検索
     public Employee findByCode(String code) {
-        // findByIdで検索
-        Optional<Employee> option = employeeRepository.findById(code);
+        // キャッシュから検索（キャッシュにない場合はfindByIdで検索）
         // 取得できなかった場合はnullを返す
-        Employee employee = option.orElse(null);
+        Employee employee = employeeCache.get(code);
         return employee;
     }
 
@@ -96,17 +137,29 @@ public class EmployeeService {
         }
 
         // パスワードを暗号化
-        employee.setPassword(passwordEncoder.encode(employee.getPassword()));
+        String encodedPassword = encodePassword(employee.getPassword());
+        if (encodedPassword == null) {
+            return ErrorKinds.PASSWORD_BUSY_ERROR;
+        }
+        employee.setPassword(encodedPassword);
 
         return ErrorKinds.CHECK_OK;
     }
 
+    // パスワードの暗号化（暗号化処理が混み合っている・タイムアウトした場合はnullを返す）
+    private String encodePassword(String rawPassword) {
+        try {
+            return passwordEncoder.encode(rawPassword);
+        } catch (BoundedPasswordEncoder.BusyException e) {
+            return null;
+        }
+    }
+
     // 従業員パスワードの半角英数字チェック処理
-    private boolean isHalfSizeCheckError(Employee employee) {
+    boolean isHalfSizeCheckError(Employee employee) {
 
         // 半角英数字チェック
-        Pattern pattern = Pattern.compile("^[A-Za-z0-9]+$");
-        Matcher matcher = pattern.matcher(employee.getPassword());
+        Matcher matcher = HALF_SIZE_PATTERN.matcher(employee.getPassword());
         return !matcher.matches();
     }
 
@@ -122,8 +175,8 @@ public class EmployeeService {
     @Transactional
     public ErrorKinds update(Employee employee) {
 
-        // 従業員情報を取得
-        Employee existingEmployee = findByCode(employee.getCode());
+        // 従業員情報を取得（保存時に再取得しないよう管理対象の従業員を取得する）
+        Employee existingEmployee = employeeRepository.findById(employee.getCode()).orElse(null);
 
         // 氏名の必須チェック
         if (employee.getName() == null || employee.getName().isEmpty()) {
@@ -148,7 +201,11 @@ public class EmployeeService {
             }
 
             // パスワードが入力されていれば暗号化してセット
-            existingEmployee.setPassword(passwordEncoder.encode(employee.getPassword()));
+            String encodedPassword = encodePassword(employee.getPassword());
+            if (encodedPassword == null) {
+                return ErrorKinds.PASSWORD_BUSY_ERROR;
+            }
+            existingEmployee.setPassword(encodedPassword);
         } else {
             // パスワードが空の場合は、既存のパスワードを維持
             existingEmployee.setPassword(existingEmployee.getPassword());
@@ -163,6 +220,10 @@ public class EmployeeService {
 
         // 更新された従業員情報を保存
         employeeRepository.save(existingEmployee);
+        employeeCache.invalidate(existingEmployee.getCode());
+        // 日報一覧・日報未提出カレンダーに氏名を表示しているため、一覧のキャッシュ・在籍中の従業員も破棄する
+        reportListCache.invalidate();
+        reportComplianceService.invalidateEmployees();
 
         // 更新成功
         return ErrorKinds.SUCCESS;
@@ -0,0 +1,25 @@
+package com.techacademy.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 従業員ごとの月間の日報提出状況
+@Getter
+@AllArgsConstructor
+public class MonthlyReportStats {
+
+    // 社員番号
+    private final String employeeCode;
+
+    // 氏名
+    private final String employeeName;
+
+    // 日報の提出件数
+    private final int reportCount;
+
+    // 平日（月～金）のうち日報を提出した日数
+    private final int businessDayCount;
+
+    // 平日（月～金、当月は本日まで）のうち日報を提出していない日数
+    private final int missedDays;
+}
@@ -0,0 +1,317 @@
+package com.techacademy.service;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.techacademy.repository.EmployeeRepository;
+import com.techacademy.repository.EmployeeSummary;
+
+// 日報の提出状況の索引（従業員ごとに、起点日からの経過日数をビット位置とした提出日のビット集合を持つ）
+// あわせて日ごとに、在籍中の従業員の並び順（社員番号の昇順）をビット位置とした提出済みの従業員のビット集合を持つ
+// 未提出の判定はビット集合の差（andNot）で求め、従業員ごとに日報を検索しない
+// 索引はこのインスタンス内に持つため、複数台で動かす場合は他のサーバーでの変更を反映するには作り直す
+@Service
+public class ReportComplianceService {
+
+    // 再集計時に一度に読み込む日報の件数
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmployeeRepository employeeRepository;
+    // 索引に含める過去の月数（当月を含む）
+    private final int indexMonths;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, BitSet> reportDays = new HashMap<String, BitSet>();
+    // 起点日からの経過日数ごとの提出済みの従業員（ビット位置は employees の並び順）
+    private final Map<Integer, BitSet> reportedEmployees = new HashMap<Integer, BitSet>();
+    // 社員番号ごとの employees の並び順
+    private final Map<String, Integer> ordinals = new HashMap<String, Integer>();
+    // 索引の起点日（初回の参照時に作成するまではnull）
+    private LocalDate baseDate;
+    // 在籍中の従業員（社員番号の昇順、従業員の登録・更新・削除後の初回の参照時に読み込み直すまではnull）
+    private List<EmployeeSummary> employees;
+
+    @Autowired
+    public ReportComplianceService(JdbcTemplate jdbcTemplate, EmployeeRepository employeeRepository,
+            @Value("${report.compliance.index-months:24}") int indexMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.employeeRepository = employeeRepository;
+        this.indexMonths = indexMonths;
+    }
+
+    // 日報の登録を索引に反映する（トランザクション中の場合はコミット後に反映する）
+    public void addReport(String employeeCode, LocalDate reportDate) {
+        afterCommit(() -> update(employeeCode, reportDate, true));
+    }
+
+    // 複数件の日報の登録を索引に反映する
+    public void addReports(Map<String, List<LocalDate>> reportDates) {
+        afterCommit(() -> reportDates.forEach((employeeCode, dates) -> {
+            for (LocalDate date : dates) {
+                update(employeeCode, date, true);
+            }
+        }));
+    }
+
+    // 日報の削除を索引に反映する
+    public void removeReport(String employeeCode, LocalDate reportDate) {
+        afterCommit(() -> update(employeeCode, reportDate, false));
+    }
+
+    // 従業員の日報の一括削除を索引に反映する
+    public void removeEmployee(String employeeCode) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                reportDays.remove(employeeCode);
+                Integer ordinal = ordinals.get(employeeCode);
+                if (ordinal != null) {
+                    reportedEmployees.values().forEach(reported -> reported.clear(ordinal));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // 従業員の登録・更新・削除時に、在籍中の従業員を次回の参照時に読み込み直す（コミット前後の両方で破棄する）
+    public void invalidateEmployees() {
+        clearEmployees();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clearEmployees();
+                }
+            });
+        }
+    }
+
+    // 指定した月から指定した月数分の未提出カレンダー（本日より後の日は含めない）
+    public ComplianceCalendar findCalendar(YearMonth firstMonth, int months) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = firstMonth.atDay(1);
+        LocalDate to = firstMonth.plusMonths(months - 1).atEndOfMonth();
+
+        lock.readLock().lock();
+        try {
+            build();
+            // 索引の範囲外（起点日より前）の日は表示しない
+            List<LocalDate> businessDays = new ArrayList<LocalDate>();
+            BitSet businessDayBits = new BitSet();
+            for (LocalDate date = from.isBefore(baseDate) ? baseDate : from; !date.isAfter(to)
+                    && !date.isAfter(today); date = date.plusDays(1)) {
+                if (isBusinessDay(date)) {
+                    businessDays.add(date);
+                    businessDayBits.set(offset(date));
+                }
+            }
+
+            List<ComplianceCalendar.Row> rows = new ArrayList<ComplianceCalendar.Row>();
+            for (EmployeeSummary employee : employees) {
+                BitSet missing = missing(businessDayBits, employee.getCode());
+                if (missing.isEmpty()) {
+                    continue;
+                }
+                List<Boolean> missingDays = new ArrayList<Boolean>(businessDays.size());
+                for (LocalDate date : businessDays) {
+                    missingDays.add(missing.get(offset(date)));
+                }
+                rows.add(new ComplianceCalendar.Row(employee.getCode(), employee.getName(), missingDays,
+                        missing.cardinality()));
+            }
+            return new ComplianceCalendar(from, to, businessDays, rows, employees.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 指定した日に日報を提出していない従業員（社員番号の昇順）
+    public List<EmployeeSummary> findMissingOn(LocalDate date) {
+        lock.readLock().lock();
+        try {
+            build();
+            List<EmployeeSummary> missing = new ArrayList<EmployeeSummary>();
+            if (date.isBefore(baseDate)) {
+                return missing;
+            }
+            // 在籍中の全従業員から、その日の提出済みの従業員を除く
+            BitSet missingEmployees = new BitSet(employees.size());
+            missingEmployees.set(0, employees.size());
+            BitSet reported = reportedEmployees.get(offset(date));
+            if (reported != null) {
+                missingEmployees.andNot(reported);
+            }
+            for (int i = missingEmployees.nextSetBit(0); i >= 0; i = missingEmployees.nextSetBit(i + 1)) {
+                missing.add(employees.get(i));
+            }
+            return missing;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 全日報から索引を作り直す
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            baseDate = null;
+            reportDays.clear();
+            employees = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        lock.readLock().lock();
+        try {
+            build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 索引が未作成の場合は、起点日以降の日報を1回の範囲検索で読み込んで作成する（読み取りロックを保持して呼び出す）
+    // 在籍中の従業員が未読み込みの場合は読み込み、日ごとの提出済みの従業員を作り直す
+    private void build() {
+        if (baseDate != null && employees != null) {
+            return;
+        }
+        // 読み取りロックは書き込みロックに昇格できないため、一度解放してから取得し直す
+        lock.readLock().unlock();
+        lock.writeLock().lock();
+        try {
+            boolean reindex = false;
+            if (baseDate == null) {
+                LocalDate start = YearMonth.now().minusMonths(indexMonths - 1).atDay(1);
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            "SELECT employee_code, report_date FROM reports WHERE report_date >= ? AND delete_flg = false");
+                    statement.setDate(1, Date.valueOf(start));
+                    statement.setFetchSize(FETCH_SIZE);
+                    return statement;
+                }, resultSet -> {
+                    String employeeCode = resultSet.getString(1);
+                    LocalDate reportDate = resultSet.getDate(2).toLocalDate();
+                    reportDays.computeIfAbsent(employeeCode, code -> new BitSet())
+                            .set((int) ChronoUnit.DAYS.between(start, reportDate));
+                });
+                baseDate = start;
+                reindex = true;
+            }
+            if (employees == null) {
+                employees = employeeRepository.findAllSummaries();
+                reindex = true;
+            }
+            if (reindex) {
+                indexByDay();
+            }
+        } finally {
+            lock.readLock().lock();
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 索引への反映（索引が未作成の場合は、作成時にDBから読み込むため何もしない）
+    private void update(String employeeCode, LocalDate reportDate, boolean reported) {
+        lock.writeLock().lock();
+        try {
+            if (baseDate == null || reportDate.isBefore(baseDate)) {
+                return;
+            }
+            int offset = offset(reportDate);
+            if (reported) {
+                reportDays.computeIfAbsent(employeeCode, code -> new BitSet()).set(offset);
+            } else if (reportDays.containsKey(employeeCode)) {
+                reportDays.get(employeeCode).clear(offset);
+            }
+            // 在籍中の従業員が未読み込みの場合は、読み込み時に作り直すため何もしない
+            Integer ordinal = employees == null ? null : ordinals.get(employeeCode);
+            if (ordinal == null) {
+                return;
+            }
+            if (reported) {
+                reportedEmployees.computeIfAbsent(offset, day -> new BitSet()).set(ordinal);
+            } else if (reportedEmployees.containsKey(offset)) {
+                reportedEmployees.get(offset).clear(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 従業員ごとの提出日から、日ごとの提出済みの従業員を作り直す（書き込みロックを保持して呼び出す）
+    private void indexByDay() {
+        ordinals.clear();
+        reportedEmployees.clear();
+        for (int i = 0; i < employees.size(); i++) {
+            String employeeCode = employees.get(i).getCode();
+            ordinals.put(employeeCode, i);
+            BitSet days = reportDays.get(employeeCode);
+            if (days == null) {
+                continue;
+            }
+            for (int day = days.nextSetBit(0); day >= 0; day = days.nextSetBit(day + 1)) {
+                reportedEmployees.computeIfAbsent(day, offset -> new BitSet()).set(i);
+            }
+        }
+    }
+
+    private void clearEmployees() {
+        lock.writeLock().lock();
+        try {
+            employees = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 平日のうち日報を提出していない日
+    private BitSet missing(BitSet businessDayBits, String employeeCode) {
+        BitSet missing = (BitSet) businessDayBits.clone();
+        BitSet days = reportDays.get(employeeCode);
+        if (days != null) {
+            missing.andNot(days);
+        }
+        return missing;
+    }
+
+    private int offset(LocalDate date) {
+        return (int) ChronoUnit.DAYS.between(baseDate, date);
+    }
+
+    private static boolean isBusinessDay(LocalDate date) {
+        return date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY;
+    }
+
+    // DBの変更がコミットされてから索引に反映する（コミット前に反映すると、ロールバック時に索引だけが変わるため）
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
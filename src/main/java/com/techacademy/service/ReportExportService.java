@@ -0,0 +1,113 @@
+package com.techacademy.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.techacademy.entity.Report;
+import com.techacademy.repository.ReportRepository;
+
+import jakarta.persistence.EntityManager;
+
+// 日報の一括出力（CSV・JSON）処理
+@Service
+public class ReportExportService {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ReportRepository reportRepository;
+    private final EntityManager entityManager;
+    // レスポンスのストリームは呼び出し側で閉じるため、JSON出力の終了時に閉じない
+    private final JsonFactory jsonFactory = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    @Autowired
+    public ReportExportService(ReportRepository reportRepository, EntityManager entityManager) {
+        this.reportRepository = reportRepository;
+        this.entityManager = entityManager;
+    }
+
+    // 全日報をCSV形式で出力する（1件ずつ読み込んで書き出すため件数によらずメモリ使用量は一定）
+    @Transactional(readOnly = true)
+    public void exportCsv(OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write("id,employee_code,employee_name,report_date,title,content,created_at,updated_at\r\n");
+
+        try (Stream<Report> reports = reportRepository.streamAllForExport()) {
+            Iterator<Report> iterator = reports.iterator();
+            while (iterator.hasNext()) {
+                Report report = iterator.next();
+                writer.write(String.valueOf(report.getId()));
+                writer.write(',');
+                writer.write(csv(report.getEmployee().getCode()));
+                writer.write(',');
+                writer.write(csv(report.getEmployee().getName()));
+                writer.write(',');
+                writer.write(report.getReportDate().toString());
+                writer.write(',');
+                writer.write(csv(report.getTitle()));
+                writer.write(',');
+                writer.write(csv(report.getContent()));
+                writer.write(',');
+                writer.write(report.getCreatedAt().format(DATE_TIME_FORMAT));
+                writer.write(',');
+                writer.write(report.getUpdatedAt().format(DATE_TIME_FORMAT));
+                writer.write("\r\n");
+
+                // 書き出した日報は永続化コンテキストから切り離す
+                entityManager.detach(report);
+            }
+        }
+        writer.flush();
+    }
+
+    // 全日報をJSON配列形式で出力する（1件ずつ読み込んで書き出すため件数によらずメモリ使用量は一定）
+    @Transactional(readOnly = true)
+    public void exportJson(OutputStream outputStream) throws IOException {
+        try (JsonGenerator json = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8);
+                Stream<Report> reports = reportRepository.streamAllForExport()) {
+            json.writeStartArray();
+            Iterator<Report> iterator = reports.iterator();
+            while (iterator.hasNext()) {
+                Report report = iterator.next();
+                json.writeStartObject();
+                json.writeNumberField("id", report.getId());
+                json.writeStringField("employeeCode", report.getEmployee().getCode());
+                json.writeStringField("employeeName", report.getEmployee().getName());
+                json.writeStringField("reportDate", report.getReportDate().toString());
+                json.writeStringField("title", report.getTitle());
+                json.writeStringField("content", report.getContent());
+                json.writeStringField("createdAt", report.getCreatedAt().format(DATE_TIME_FORMAT));
+                json.writeStringField("updatedAt", report.getUpdatedAt().format(DATE_TIME_FORMAT));
+                json.writeEndObject();
+
+                // 書き出した日報は永続化コンテキストから切り離す
+                entityManager.detach(report);
+            }
+            json.writeEndArray();
+        }
+    }
+
+    // CSVの値をエスケープする（カンマ・ダブルクォート・改行を含む場合はダブルクォートで囲む）
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
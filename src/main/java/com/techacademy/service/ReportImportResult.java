@@ -0,0 +1,49 @@
+package com.techacademy.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.techacademy.constants.ErrorKinds;
+import com.techacademy.constants.ErrorMessage;
+
+import lombok.Getter;
+
+// 日報一括登録の結果
+@Getter
+public class ReportImportResult {
+
+    // 画面に表示するエラーの最大件数
+    private static final int MAX_ERRORS = 100;
+
+    // 登録件数
+    private int importedCount;
+
+    // 日付重複のため登録しなかった件数
+    private int duplicateCount;
+
+    // 入力チェックエラーの件数
+    private int errorCount;
+
+    // エラー内容（先頭から最大件数まで）
+    private final List<String> errors = new ArrayList<String>();
+
+    void addImported(int count) {
+        importedCount += count;
+    }
+
+    void addDuplicate(long row) {
+        duplicateCount++;
+        addMessage(row, ErrorMessage.getErrorValue(ErrorKinds.DATECHECK_ERROR));
+    }
+
+    void addError(long row, String message) {
+        errorCount++;
+        addMessage(row, message);
+    }
+
+    private void addMessage(long row, String message) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(row + "行目：" + message);
+        }
+    }
+}
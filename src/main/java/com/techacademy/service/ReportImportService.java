@@ -0,0 +1,223 @@
+package com.techacademy.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.techacademy.constants.ErrorKinds;
+import com.techacademy.constants.ErrorMessage;
+import com.techacademy.entity.Employee;
+import com.techacademy.entity.Report;
+import com.techacademy.repository.EmployeeRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+// 日報の一括登録（CSV取り込み）処理
+@Service
+public class ReportImportService {
+
+    // 同じ従業員・同じ日付の日報が既にある場合は登録しない
+    private static final String INSERT_SQL = "INSERT INTO reports"
+            + " (report_date, title, content, employee_code, delete_flg, created_at, updated_at)"
+            + " SELECT ?, ?, ?, ?, false, ?, ? FROM DUAL"
+            + " WHERE NOT EXISTS (SELECT 1 FROM reports WHERE employee_code = ? AND report_date = ?)";
+
+    // CSVの項目数（社員番号,日付,タイトル,内容）
+    private static final int COLUMN_COUNT = 4;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ReportService reportService;
+    private final EmployeeRepository employeeRepository;
+    private final ReportListCache reportListCache;
+    private final ReportStatsService reportStatsService;
+    private final ReportComplianceService reportComplianceService;
+    private final int batchSize;
+
+    @Autowired
+    public ReportImportService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, Validator validator,
+            ReportService reportService, EmployeeRepository employeeRepository, ReportListCache reportListCache,
+            ReportStatsService reportStatsService, ReportComplianceService reportComplianceService,
+            @Value("${report.import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.reportService = reportService;
+        this.employeeRepository = employeeRepository;
+        this.reportListCache = reportListCache;
+        this.reportStatsService = reportStatsService;
+        this.reportComplianceService = reportComplianceService;
+        this.batchSize = batchSize;
+    }
+
+    // CSVを1行ずつ読み込み、一定件数ごとにまとめて登録する
+    public ReportImportResult importCsv(InputStream inputStream) throws IOException {
+        ReportImportResult result = new ReportImportResult();
+        CsvReader csvReader = new CsvReader(
+                new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+
+        // 存在確認済みの社員番号（従業員数までしか増えない）
+        Set<String> knownCodes = new HashSet<String>();
+        Set<String> unknownCodes = new HashSet<String>();
+
+        List<Object[]> batch = new ArrayList<Object[]>(batchSize);
+        List<Long> batchRows = new ArrayList<Long>(batchSize);
+
+        List<String> record;
+        while ((record = csvReader.readRecord()) != null) {
+            // エラーの行番号はレコードが始まるファイル上の行（引用符内の改行があっても元のファイルの行と一致させる）
+            long row = csvReader.getLineNumber();
+
+            // ヘッダ行は読み飛ばす
+            if (row == 1 && !record.isEmpty() && "employee_code".equals(record.get(0).trim())) {
+                continue;
+            }
+            // 空行は読み飛ばす
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            // 長すぎる項目は途中までしか読み込んでいないため登録しない
+            if (csvReader.isTooLong()) {
+                result.addError(row, "項目の文字数が多すぎます（1項目あたり" + CsvReader.MAX_FIELD_LENGTH + "文字まで）");
+                continue;
+            }
+
+            Object[] args = toInsertArgs(row, record, knownCodes, unknownCodes, result);
+            if (args == null) {
+                continue;
+            }
+            batch.add(args);
+            batchRows.add(row);
+
+            if (batch.size() >= batchSize) {
+                flush(batch, batchRows, result);
+            }
+        }
+        flush(batch, batchRows, result);
+
+        return result;
+    }
+
+    // 1行分の入力チェックを行い、登録用のパラメータを作成する（エラーの場合はnullを返す）
+    private Object[] toInsertArgs(long row, List<String> record, Set<String> knownCodes, Set<String> unknownCodes,
+            ReportImportResult result) {
+        if (record.size() != COLUMN_COUNT) {
+            result.addError(row, "項目数が正しくありません（社員番号,日付,タイトル,内容）");
+            return null;
+        }
+
+        // 社員番号の存在チェック
+        String code = record.get(0).trim();
+        if (!knownCodes.contains(code)) {
+            if (unknownCodes.contains(code) || !employeeRepository.existsById(code)) {
+                unknownCodes.add(code);
+                result.addError(row, "社員番号「" + code + "」の従業員が存在しません");
+                return null;
+            }
+            knownCodes.add(code);
+        }
+
+        // 日付の形式チェック
+        LocalDate reportDate;
+        try {
+            reportDate = LocalDate.parse(record.get(1).trim());
+        } catch (DateTimeParseException e) {
+            result.addError(row, "日付はyyyy-MM-dd形式で入力してください");
+            return null;
+        }
+
+        Employee employee = new Employee();
+        employee.setCode(code);
+        Report report = new Report();
+        report.setEmployee(employee);
+        report.setReportDate(reportDate);
+        report.setTitle(record.get(2));
+        report.setContent(record.get(3));
+
+        // 画面からの登録と同じ入力チェック
+        Set<ConstraintViolation<Report>> violations = validator.validate(report);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<Report> violation = violations.iterator().next();
+            result.addError(row, columnName(violation.getPropertyPath().toString()) + "：" + violation.getMessage());
+            return null;
+        }
+        ErrorKinds check = reportService.reportInputCheck(report);
+        if (ErrorKinds.CHECK_OK != check) {
+            result.addError(row, ErrorMessage.getErrorValue(check));
+            return null;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return new Object[] { reportDate, report.getTitle(), report.getContent(), code, now, now, code, reportDate };
+    }
+
+    // 入力チェックエラーの項目名
+    private String columnName(String property) {
+        switch (property) {
+        case "reportDate":
+            return "日付";
+        case "title":
+            return "タイトル";
+        case "content":
+            return "内容";
+        default:
+            return property;
+        }
+    }
+
+    // 溜めた行をJDBCのバッチで登録する（バッチごとにコミット）
+    private void flush(List<Object[]> batch, List<Long> batchRows, ReportImportResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // 登録できた日報は同じトランザクションで提出件数の集計に反映し、コミット後に提出状況の索引に反映する
+        List<Long> duplicateRows = new ArrayList<Long>();
+        int imported = transactionTemplate.execute(status -> {
+            int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            Map<String, List<LocalDate>> importedDates = new HashMap<String, List<LocalDate>>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    duplicateRows.add(batchRows.get(i));
+                } else {
+                    Object[] args = batch.get(i);
+                    importedDates.computeIfAbsent((String) args[3], code -> new ArrayList<LocalDate>())
+                            .add((LocalDate) args[0]);
+                }
+            }
+            reportStatsService.addReports(importedDates);
+            reportComplianceService.addReports(importedDates);
+            return counts.length - duplicateRows.size();
+        });
+        for (Long row : duplicateRows) {
+            result.addDuplicate(row);
+        }
+        result.addImported(imported);
+        if (imported > 0) {
+            reportListCache.invalidate();
+        }
+
+        batch.clear();
+        batchRows.clear();
+    }
+}
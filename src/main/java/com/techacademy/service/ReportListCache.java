@@ -0,0 +1,66 @@
+package com.techacademy.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// 日報一覧の描画済みHTMLのキャッシュ（ページとデータのバージョンをキーとし、合計文字数の上限あり）
+// バージョンはこのインスタンス内のカウンタのため、複数台で動かす場合は各サーバーで個別に無効化される
+@Component
+public class ReportListCache {
+
+    private final Cache<String, String> cache;
+    // 日報（または一覧に表示する従業員情報）が変更されるたびに増やす
+    private final AtomicLong version = new AtomicLong();
+
+    @Autowired
+    public ReportListCache(MeterRegistry meterRegistry,
+            @Value("${report.list.cache.maximum-chars:5000000}") long maximumChars) {
+        // 使用頻度の低いページから追い出す
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumChars)
+                .weigher((String key, String html) -> key.length() + html.length())
+                .recordStats()
+                .build();
+
+        // ヒット数・ミス数などをメトリクスとして公開する
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "report.list");
+    }
+
+    // ページ（検索条件）に対応するHTMLを取得する（キャッシュにない場合は描画して登録する）
+    public String get(String page, Supplier<String> renderer) {
+        return cache.get(version.get() + "|" + page, key -> renderer.get());
+    }
+
+    // 日報の登録・更新・削除時にキャッシュを無効にする
+    public void invalidate() {
+        clear();
+
+        // コミット前に他のリクエストが変更前の一覧を新しいバージョンで登録しないよう、コミット後にも無効にする
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+    }
+
+    // バージョンを進め、古いバージョンのHTMLを破棄する
+    public void clear() {
+        version.incrementAndGet();
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,38 @@
+package com.techacademy.service;
+
+import java.util.List;
+
+import com.techacademy.repository.ReportSummary;
+
+import lombok.Getter;
+
+// 日報一覧の1ページ分の情報
+@Getter
+public class ReportPage {
+
+    // ページ内の日報（日付の降順、IDの降順）
+    private final List<ReportSummary> reportList;
+
+    // 古い側に次のページがあるか
+    private final boolean hasNext;
+
+    // 新しい側に前のページがあるか
+    private final boolean hasPrevious;
+
+    public ReportPage(List<ReportSummary> reportList, boolean hasNext, boolean hasPrevious) {
+        this.reportList = reportList;
+        // 日報がない場合はページ送りの起点がないためリンクを出さない
+        this.hasNext = hasNext && !reportList.isEmpty();
+        this.hasPrevious = hasPrevious && !reportList.isEmpty();
+    }
+
+    // ページ先頭の日報（前ページへのリンクの起点）
+    public ReportSummary getFirst() {
+        return reportList.isEmpty() ? null : reportList.get(0);
+    }
+
+    // ページ末尾の日報（次ページへのリンクの起点）
+    public ReportSummary getLast() {
+        return reportList.isEmpty() ? null : reportList.get(reportList.size() - 1);
+    }
+}
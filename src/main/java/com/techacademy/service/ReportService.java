@@ -4,28 +4,51 @@ import com.techacademy.constants.ErrorKinds;
 import com.techacademy.entity.Employee;
 import com.techacademy.entity.Report;
 import com.techacademy.repository.ReportRepository;
-
-import jakarta.transaction.Transactional;
-
-import com.techacademy.repository.EmployeeRepository;
+import com.techacademy.repository.ReportSummary;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import io.micrometer.core.annotation.Timed;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+// 各メソッドの呼び出し回数・処理時間をメトリクスとして公開する（メソッド名ごと）
+@Timed(value = "report.service", histogram = true)
 @Service
 public class ReportService {
 
+    // 全文検索で読み飛ばせる最大件数（これより後ろのページは検索せず空のページとする）
+    static final int MAX_SEARCH_OFFSET = 10000;
+
+    // 同じ従業員・同じ日付の日報を禁止する一意制約名（小文字で比較する）
+    private static final String DUPLICATE_DATE_CONSTRAINT = "uk_reports_employee_date";
+
     private final ReportRepository reportRepository;
-    private final EmployeeRepository employeeRepository;  // EmployeeRepositoryをインジェクト
+    private final EmployeeCache employeeCache;  // 従業員情報のキャッシュをインジェクト
+    private final ReportListCache reportListCache;
+    private final ReportStatsService reportStatsService;
+    private final ReportComplianceService reportComplianceService;
 
     @Autowired
-    public ReportService(ReportRepository reportRepository, EmployeeRepository employeeRepository) {
+    public ReportService(ReportRepository reportRepository, EmployeeCache employeeCache,
+            ReportListCache reportListCache, ReportStatsService reportStatsService,
+            ReportComplianceService reportComplianceService) {
         this.reportRepository = reportRepository;
-        this.employeeRepository = employeeRepository;  // コンストラクタでインジェクト
+        this.employeeCache = employeeCache;  // コンストラクタでインジェクト
+        this.reportListCache = reportListCache;
+        this.reportStatsService = reportStatsService;
+        this.reportComplianceService = reportComplianceService;
     }
 
     // 日報一覧表示処理
@@ -33,10 +56,67 @@ public class ReportService {
         return reportRepository.findAll();
     }
 
+    // 日報件数取得処理
+    @Transactional(readOnly = true)
+    public long countReports() {
+        return reportRepository.countByDeleteFlgFalse();
+    }
+
+    // 日報一覧のページ取得処理（日付・IDを起点としたキーセットページング）
+    @Transactional(readOnly = true)
+    public ReportPage findReportPage(LocalDate afterDate, Integer afterId, LocalDate beforeDate, Integer beforeId,
+            int pageSize) {
+        // 前後のページの有無を判定するため1件多く取得する
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        // 次ページ（古い側）の表示
+        if (afterDate != null && afterId != null) {
+            List<ReportSummary> reports = reportRepository.findPageAfter(afterDate, afterId, limit);
+            return new ReportPage(head(reports, pageSize), reports.size() > pageSize, true);
+        }
+
+        // 前ページ（新しい側）の表示
+        if (beforeDate != null && beforeId != null) {
+            List<ReportSummary> reports = reportRepository.findPageBefore(beforeDate, beforeId, limit);
+            List<ReportSummary> page = head(reports, pageSize);
+            Collections.reverse(page);  // 昇順で取得しているため降順に戻す
+            return new ReportPage(page, true, reports.size() > pageSize);
+        }
+
+        // 先頭ページの表示
+        List<ReportSummary> reports = reportRepository.findFirstPage(limit);
+        return new ReportPage(head(reports, pageSize), reports.size() > pageSize, false);
+    }
+
+    // 日報の全文検索処理（関連度の高い順、ページ番号は0始まり）
+    @Transactional(readOnly = true)
+    public ReportPage searchReports(String keyword, int page, int pageSize) {
+        // ページ番号が大きい場合に読み飛ばす件数が桁あふれしないよう、longで計算して上限を設ける
+        long offset = (long) Math.max(page, 0) * pageSize;
+        if (offset > MAX_SEARCH_OFFSET) {
+            return new ReportPage(new ArrayList<ReportSummary>(), false, false);
+        }
+        // 次ページの有無を判定するため1件多く取得する
+        List<ReportSummary> reports = reportRepository.searchByKeyword(keyword, pageSize + 1, (int) offset);
+        return new ReportPage(head(reports, pageSize), reports.size() > pageSize, page > 0);
+    }
+
+    // 先頭から指定件数までを取り出す
+    private List<ReportSummary> head(List<ReportSummary> reports, int size) {
+        return new ArrayList<ReportSummary>(reports.subList(0, Math.min(reports.size(), size)));
+    }
+
+    // 日報詳細画面の最終更新日時取得処理（日報がない場合はnullを返す）
+    @Transactional(readOnly = true)
+    public LocalDateTime findLastModified(Integer id) {
+        return reportRepository.findLastModifiedById(id).orElse(null);
+    }
+
     // 日報詳細表示処理
     public Report findById(Integer id) {
-        Optional<Report> reportOptional = reportRepository.findById(id);
-        return reportOptional.filter(report -> !report.isDeleteFlg()).orElse(null);
+        // 従業員情報も合わせて1回のSQLで取得する
+        Optional<Report> reportOptional = reportRepository.findByIdAndDeleteFlgFalse(id);
+        return reportOptional.orElse(null);
     }
 
  // 日報削除処理
@@ -46,39 +126,80 @@ public class ReportService {
         if (report != null) {
             // 日報を物理削除
             reportRepository.delete(report);  // 実際にレコードを削除
+            reportStatsService.removeReport(report.getEmployee().getCode(), report.getReportDate());
+            reportComplianceService.removeReport(report.getEmployee().getCode(), report.getReportDate());
+            reportListCache.invalidate();
             return ErrorKinds.SUCCESS;  // 成功した場合は SUCCESS を返す
         }
         // 日報が見つからなかった場合に REPORT_NOT_FOUND を返す
         return ErrorKinds.BLANK_ERROR;  // 日報が見つからない場合にエラーを返す
     }
 
-    // 日付重複チェック
-    public boolean isDateDuplicate(String employeeCode, java.time.LocalDate reportDate, Integer excludeId) {
-        Optional<Report> existingReport = reportRepository.findDuplicateReport(reportDate, excludeId);
-        return existingReport.isPresent();  // 重複している場合は true を返す
+    // 従業員に紐づく日報の一括削除処理
+    @Transactional
+    public int deleteReportsByEmployeeCode(String employeeCode) {
+        // 日報を1件ずつ取得せず、1回のSQLでまとめて物理削除する
+        int deleted = reportRepository.deleteByEmployeeCode(employeeCode);
+        reportStatsService.removeEmployee(employeeCode);
+        reportComplianceService.removeEmployee(employeeCode);
+        reportListCache.invalidate();
+        return deleted;
     }
 
     // 従業員コードで従業員情報を取得する処理
     private Optional<Employee> getEmployeeByCode(String employeeCode) {
-        return employeeRepository.findById(employeeCode);
+        return Optional.ofNullable(employeeCache.get(employeeCode));
     }
 
-    // 日報新規登録処理
-    public ErrorKinds createReport(Report report, String employeeCode) {
+    // 従業員・日付の一意制約（uk_reports_employee_date）違反かどうかを判定する
+    private boolean isDuplicateReportDate(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                String name = ((ConstraintViolationException) cause).getConstraintName();
+                return name != null && name.toLowerCase().contains(DUPLICATE_DATE_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    // 日報入力チェック（新規登録・一括登録で共通）
+    public ErrorKinds reportInputCheck(Report report) {
         if (report == null || report.getTitle().isBlank() || report.getContent().isBlank()) {
             return ErrorKinds.BLANK_ERROR;  // タイトルまたは内容が空白の場合
         }
+        return ErrorKinds.CHECK_OK;
+    }
 
-        // 日付重複チェック
-        List<Report> r = reportRepository.findByEmployee_CodeAndReportDate(employeeCode, report.getReportDate());
-        if (r.size()>0) {
-            return ErrorKinds.DATECHECK_ERROR;  // 従業員が見つからない場合
+    // 日報新規登録処理（日報の登録と提出件数の集計を同じトランザクションでコミットする）
+    @Transactional
+    public ErrorKinds createReport(Report report, String employeeCode) {
+        ErrorKinds result = reportInputCheck(report);
+        if (ErrorKinds.CHECK_OK != result) {
+            return result;
         }
+
         LocalDateTime now = LocalDateTime.now();
         report.setCreatedAt(now);
         report.setUpdatedAt(now);
-        // 日報登録処理
-        reportRepository.save(report);
+        // 同じ日付の日報が登録済みの場合は、登録を試みずに入力エラーとする（一意インデックスのみを参照する）
+        if (reportRepository.existsByEmployee_CodeAndReportDate(report.getEmployee().getCode(), report.getReportDate())) {
+            return ErrorKinds.DATECHECK_ERROR;
+        }
+        // 日報登録処理（確認後に同時に登録された場合の日付重複は一意制約で検出する）
+        try {
+            reportRepository.saveAndFlush(report);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateReportDate(e)) {
+                throw e;  // 日付重複以外の整合性エラーはそのまま通知する
+            }
+            // 登録できなかったためロールバックする（コミット時に UnexpectedRollbackException とならないようにする）
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return ErrorKinds.DATECHECK_ERROR;  // 同じ日付の日報が登録済みの場合
+        }
+        // 提出件数の集計に反映する（一意制約で登録できた場合のみ）
+        reportStatsService.addReport(report.getEmployee().getCode(), report.getReportDate());
+        reportComplianceService.addReport(report.getEmployee().getCode(), report.getReportDate());
+        reportListCache.invalidate();
         return ErrorKinds.SUCCESS;  // 登録成功
     }
 
@@ -105,7 +226,9 @@ public class ReportService {
         existingReport.setUpdatedAt(LocalDateTime.now());  // 更新日時を現在時刻に設定
 
         // 保存（更新）
+        // 日付は変更できないため、提出件数の集計は変わらない
         reportRepository.save(existingReport);
+        reportListCache.invalidate();
         return ErrorKinds.SUCCESS;  // 更新成功
     }
 }
\ No newline at end of file
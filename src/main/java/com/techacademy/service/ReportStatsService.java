@@ -0,0 +1,166 @@
+package com.techacademy.service;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 従業員ごと・月ごとの日報提出件数の集計（report_monthly_statsを日報の登録・削除時に差分で更新する）
+@Service
+public class ReportStatsService {
+
+    // 同じ従業員・同じ月の行があれば件数を加算する
+    // 加算する件数は再度パラメータで渡す（VALUES()関数はMySQL 8.0.20以降で非推奨、行の別名はH2が未対応のため）
+    private static final String UPSERT_SQL = "INSERT INTO report_monthly_stats"
+            + " (employee_code, stats_month, report_count, business_day_count) VALUES (?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE report_count = report_count + ?, business_day_count = business_day_count + ?";
+
+    private static final String DECREMENT_SQL = "UPDATE report_monthly_stats"
+            + " SET report_count = report_count - 1, business_day_count = business_day_count - ?"
+            + " WHERE employee_code = ? AND stats_month = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO report_monthly_stats"
+            + " (employee_code, stats_month, report_count, business_day_count) VALUES (?, ?, ?, ?)";
+
+    // 在籍中の全従業員について、指定した月の集計を主キーで1行ずつ結合する（過去の日報の件数によらない）
+    private static final String STATS_SQL = "SELECT e.code, e.name, e.created_at,"
+            + " COALESCE(s.report_count, 0) AS report_count, COALESCE(s.business_day_count, 0) AS business_day_count"
+            + " FROM employees e"
+            + " LEFT JOIN report_monthly_stats s ON s.employee_code = e.code AND s.stats_month = ?"
+            + " WHERE e.delete_flg = 0 ORDER BY e.code";
+
+    // 再集計時に一度に読み込む日報の件数
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ReportStatsService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 日報1件の登録を集計に反映する
+    public void addReport(String employeeCode, LocalDate reportDate) {
+        addReports(Map.of(employeeCode, List.of(reportDate)));
+    }
+
+    // 複数件の日報の登録を集計に反映する（従業員・月ごとにまとめて1回のバッチで更新する）
+    @Transactional
+    public void addReports(Map<String, List<LocalDate>> reportDates) {
+        TreeMap<String, TreeMap<LocalDate, int[]>> counts = new TreeMap<String, TreeMap<LocalDate, int[]>>();
+        reportDates.forEach((employeeCode, dates) -> {
+            for (LocalDate date : dates) {
+                count(counts, employeeCode, date);
+            }
+        });
+        // 社員番号・月の順に更新し、並行して更新した場合のデッドロックを避ける
+        List<Object[]> batch = new ArrayList<Object[]>();
+        counts.forEach((employeeCode, months) -> months.forEach((month, count) -> batch
+                .add(new Object[] { employeeCode, Date.valueOf(month), count[0], count[1], count[0], count[1] })));
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+        }
+    }
+
+    // 日報1件の削除を集計に反映する
+    @Transactional
+    public void removeReport(String employeeCode, LocalDate reportDate) {
+        jdbcTemplate.update(DECREMENT_SQL, isBusinessDay(reportDate) ? 1 : 0, employeeCode,
+                Date.valueOf(reportDate.withDayOfMonth(1)));
+    }
+
+    // 従業員の日報を一括削除した場合に、その従業員の集計を削除する
+    @Transactional
+    public void removeEmployee(String employeeCode) {
+        jdbcTemplate.update("DELETE FROM report_monthly_stats WHERE employee_code = ?", employeeCode);
+    }
+
+    // 全日報から集計し直す（差分更新がずれた場合や、SQLで直接日報を登録した場合に実行する）
+    // 日報を1件ずつ読み込んで従業員・月ごとに数えるため、メモリ使用量は従業員数×月数に比例する
+    // 再集計中に登録・削除された日報は反映されない場合があるため、更新の少ない時間帯に実行する
+    @Transactional
+    public int rebuild() {
+        TreeMap<String, TreeMap<LocalDate, int[]>> counts = new TreeMap<String, TreeMap<LocalDate, int[]>>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection
+                    .prepareStatement("SELECT employee_code, report_date FROM reports WHERE delete_flg = false");
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, resultSet -> {
+            count(counts, resultSet.getString(1), resultSet.getDate(2).toLocalDate());
+        });
+
+        jdbcTemplate.update("DELETE FROM report_monthly_stats");
+        List<Object[]> batch = toBatchArgs(counts);
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        return batch.size();
+    }
+
+    // 在籍中の全従業員の、指定した月の提出状況（未提出日数は登録日（入社日）以降の平日から数える）
+    @Transactional(readOnly = true)
+    public List<MonthlyReportStats> findMonthlyStats(YearMonth month) {
+        LocalDate today = LocalDate.now();
+        int monthBusinessDays = countBusinessDays(month, today);
+        return jdbcTemplate.query(STATS_SQL, (resultSet, rowNum) -> {
+            // 月の途中以降に登録された従業員のみ、登録日から数え直す
+            LocalDate hiredOn = resultSet.getTimestamp("created_at").toLocalDateTime().toLocalDate();
+            int businessDays = hiredOn.isAfter(month.atDay(1)) ? countBusinessDays(month, hiredOn, today)
+                    : monthBusinessDays;
+            int businessDayCount = resultSet.getInt("business_day_count");
+            return new MonthlyReportStats(resultSet.getString("code"), resultSet.getString("name"),
+                    resultSet.getInt("report_count"), businessDayCount, Math.max(businessDays - businessDayCount, 0));
+        }, Date.valueOf(month.atDay(1)));
+    }
+
+    // 指定した月の平日（月～金）の日数（当月は本日まで、未来の月は0日。祝日は考慮しない）
+    static int countBusinessDays(YearMonth month, LocalDate today) {
+        return countBusinessDays(month, month.atDay(1), today);
+    }
+
+    // 指定した月の、指定した日以降の平日の日数（指定した日が月の初日より前の場合は月の初日から数える）
+    static int countBusinessDays(YearMonth month, LocalDate from, LocalDate today) {
+        LocalDate start = from.isAfter(month.atDay(1)) ? from : month.atDay(1);
+        LocalDate end = month.atEndOfMonth();
+        if (end.isAfter(today)) {
+            end = today;
+        }
+        int days = 0;
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            if (isBusinessDay(date)) {
+                days++;
+            }
+        }
+        return days;
+    }
+
+    private static boolean isBusinessDay(LocalDate date) {
+        return date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY;
+    }
+
+    // 従業員・月ごとの日報件数と平日の日報件数を数える
+    private void count(Map<String, TreeMap<LocalDate, int[]>> counts, String employeeCode, LocalDate reportDate) {
+        int[] count = counts.computeIfAbsent(employeeCode, code -> new TreeMap<LocalDate, int[]>())
+                .computeIfAbsent(reportDate.withDayOfMonth(1), month -> new int[2]);
+        count[0]++;
+        if (isBusinessDay(reportDate)) {
+            count[1]++;
+        }
+    }
+
+    private List<Object[]> toBatchArgs(Map<String, TreeMap<LocalDate, int[]>> counts) {
+        List<Object[]> batch = new ArrayList<Object[]>();
+        counts.forEach((employeeCode, months) -> months.forEach((month, count) -> batch
+                .add(new Object[] { employeeCode, Date.valueOf(month), count[0], count[1] })));
+        return batch;
+    }
+}
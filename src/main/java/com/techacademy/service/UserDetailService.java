@@ -1,7 +1,5 @@
     package com.techacademy.service;
     
-    import java.util.Optional;
-    
     import org.springframework.beans.factory.annotation.Autowired;
     import org.springframework.security.core.userdetails.UserDetails;
     import org.springframework.security.core.userdetails.UserDetailsService;
@@ -9,24 +7,24 @@
     import org.springframework.stereotype.Service;
     
     import com.techacademy.entity.Employee;
-    import com.techacademy.repository.EmployeeRepository;
     
     @Service
     public class UserDetailService implements UserDetailsService {
-        private final EmployeeRepository employeeRepository;
+        private final EmployeeCache employeeCache;
     
         @Autowired
-        public UserDetailService(EmployeeRepository repository) {
-            this.employeeRepository = repository;
+        public UserDetailService(EmployeeCache employeeCache) {
+            this.employeeCache = employeeCache;
         }
     
         @Override
         public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-            Optional<Employee> employee = employeeRepository.findById(username);
+            // ログインのたびにDBを検索しないようキャッシュから取得する
+            Employee employee = employeeCache.get(username);
     
-            if (employee.isEmpty()) {
+            if (employee == null) {
                 throw new UsernameNotFoundException("Exception:Username Not Found");
             }
-            return new UserDetail(employee.get());
+            return new UserDetail(employee);
         }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+-- 従業員（負荷試験用のH2。MySQLのV1と同じ構成）
+CREATE TABLE employees (
+    code VARCHAR(10) NOT NULL,
+    name VARCHAR(20) NOT NULL,
+    role VARCHAR(10) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    delete_flg TINYINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (code)
+);
+
+-- 日報（H2にはLONGTEXT型に相当する文字列型がないため、内容は可変長文字列とする）
+CREATE TABLE reports (
+    id INT NOT NULL AUTO_INCREMENT,
+    report_date DATE NOT NULL,
+    title VARCHAR(100) NOT NULL,
+    content VARCHAR(65535) NOT NULL,
+    employee_code VARCHAR(10) NOT NULL,
+    delete_flg BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reports_employee_date UNIQUE (employee_code, report_date),
+    CONSTRAINT fk_reports_employee FOREIGN KEY (employee_code) REFERENCES employees (code)
+);
+
+CREATE INDEX idx_reports_date_id ON reports (report_date, id);
@@ -0,0 +1,11 @@
+-- 負荷試験用の初期データ（perfプロファイルのH2）
+-- 従業員100名（社員番号1～100、10名ごとに1名が管理者）、パスワードは全員「perf1234」
+INSERT INTO employees(code,name,role,password,delete_flg,created_at,updated_at)
+     SELECT CAST(X AS VARCHAR), CONCAT('負荷試験　', X), CASE WHEN MOD(X, 10) = 1 THEN 'ADMIN' ELSE 'GENERAL' END,
+            '$2b$10$d6igBRg1dXn5L86XohBNH.wvfeUTjdzcbcrZH3wWsxGZdSf8mWP92', 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+       FROM SYSTEM_RANGE(1, 100);
+-- 日報は従業員ごとに昨日から遡って1年分（36,500件）
+INSERT INTO reports(report_date,title,content,employee_code,delete_flg,created_at,updated_at)
+     SELECT DATEADD('DAY', -d.X, CURRENT_DATE), CONCAT('業務報告（', d.X, '日前）'),
+            REPEAT('本日は顧客訪問と資料作成を行いました。', 10), CAST(e.X AS VARCHAR), FALSE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+       FROM SYSTEM_RANGE(1, 100) e CROSS JOIN SYSTEM_RANGE(1, 365) d;
@@ -0,0 +1,17 @@
+-- 従業員ごと・月ごとの日報提出件数（H2。MySQLのV4と同じ構成）
+CREATE TABLE report_monthly_stats (
+    employee_code VARCHAR(10) NOT NULL,
+    stats_month DATE NOT NULL,
+    report_count INT NOT NULL,
+    business_day_count INT NOT NULL,
+    PRIMARY KEY (employee_code, stats_month),
+    CONSTRAINT fk_report_monthly_stats_employee FOREIGN KEY (employee_code) REFERENCES employees (code)
+);
+
+-- 登録済みの日報から集計する
+INSERT INTO report_monthly_stats(employee_code,stats_month,report_count,business_day_count)
+     SELECT employee_code, stats_month, COUNT(*), SUM(business_day)
+       FROM (SELECT employee_code, DATEADD('DAY', 1 - DAY_OF_MONTH(report_date), report_date) AS stats_month,
+                    CASE WHEN ISO_DAY_OF_WEEK(report_date) <= 5 THEN 1 ELSE 0 END AS business_day
+               FROM reports WHERE delete_flg = FALSE) r
+      GROUP BY employee_code, stats_month;
@@ -0,0 +1,30 @@
+-- 従業員
+CREATE TABLE employees (
+    code VARCHAR(10) NOT NULL,
+    name VARCHAR(20) NOT NULL,
+    role VARCHAR(10) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    delete_flg TINYINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (code)
+);
+
+-- 日報
+CREATE TABLE reports (
+    id INT NOT NULL AUTO_INCREMENT,
+    report_date DATE NOT NULL,
+    title VARCHAR(100) NOT NULL,
+    content LONGTEXT NOT NULL,
+    employee_code VARCHAR(10) NOT NULL,
+    delete_flg BIT(1) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    -- 同じ従業員・同じ日付の日報は1件のみ（従業員ごとの日報の検索・一括削除にも使用する）
+    CONSTRAINT uk_reports_employee_date UNIQUE (employee_code, report_date),
+    CONSTRAINT fk_reports_employee FOREIGN KEY (employee_code) REFERENCES employees (code)
+);
+
+-- 日報一覧のキーセットページング（日付の降順、IDの降順）
+CREATE INDEX idx_reports_date_id ON reports (report_date, id);
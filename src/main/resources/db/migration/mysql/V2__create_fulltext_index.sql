@@ -0,0 +1,2 @@
+-- 日報のタイトル・内容の全文検索（日本語のためngramパーサーを使用する）
+ALTER TABLE reports ADD FULLTEXT INDEX ft_reports_title_content (title, content) WITH PARSER ngram;
@@ -0,0 +1,19 @@
+-- 従業員ごと・月ごとの日報提出件数（日報の登録・削除時に差分で更新し、集計画面は全件を走査せずに表示する）
+CREATE TABLE report_monthly_stats (
+    employee_code VARCHAR(10) NOT NULL,
+    -- 月の初日
+    stats_month DATE NOT NULL,
+    report_count INT NOT NULL,
+    -- 平日（月～金）に提出した日報の件数
+    business_day_count INT NOT NULL,
+    PRIMARY KEY (employee_code, stats_month),
+    CONSTRAINT fk_report_monthly_stats_employee FOREIGN KEY (employee_code) REFERENCES employees (code)
+);
+
+-- 登録済みの日報から集計する
+INSERT INTO report_monthly_stats(employee_code,stats_month,report_count,business_day_count)
+     SELECT employee_code, stats_month, COUNT(*), SUM(business_day)
+       FROM (SELECT employee_code, DATE_SUB(report_date, INTERVAL DAYOFMONTH(report_date) - 1 DAY) AS stats_month,
+                    CASE WHEN WEEKDAY(report_date) < 5 THEN 1 ELSE 0 END AS business_day
+               FROM reports WHERE delete_flg = 0) r
+      GROUP BY employee_code, stats_month;
@@ -0,0 +1,328 @@
+package com.techacademy.perf;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.techacademy.DailyReportSystemApplication;
+
+// 負荷試験
+// perfプロファイル（組み込みDB）でアプリを起動し、複数の従業員でログインして各画面に同時にアクセスする
+// 画面ごとのスループットと応答時間のパーセンタイルを出力する
+//
+// 実行: ./mvnw -Pperf -DskipTests verify -Dperf.args="--users=50 --duration=60"
+// オプション:
+//   --users=同時ログイン数（既定50、社員番号1～usersでログインする）
+//   --duration=計測時間（秒、既定60）  --warmup=ウォームアップ時間（秒、既定10）
+//   --target=起動済みのアプリのURL（指定した場合はアプリを起動しない）
+//   --password=ログインパスワード（既定はdb/migration/h2/V2__insert_perf_data.sqlのperf1234）
+//   --max-report-id=詳細画面で参照する日報IDの上限（既定はdb/migration/h2/V2__insert_perf_data.sqlの件数）
+//   --max-p99-ms=99パーセンタイルの上限（超えた画面があれば終了コード1）
+//   --out=結果のJSONの出力先（既定 target/perf-result.json）
+public class LoadTest {
+
+    private static final Pattern CSRF_PATTERN = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+
+    // 画面ごとの操作（重みの比率でランダムに選ぶ）
+    enum Action {
+        LIST(50), DETAIL(25), ADD(15), EMPLOYEES(10);
+
+        private final int weight;
+
+        Action(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int users = Integer.parseInt(options.getOrDefault("users", "50"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        String password = options.getOrDefault("password", "perf1234");
+        int maxReportId = Integer.parseInt(options.getOrDefault("max-report-id", "36500"));
+        Path out = Path.of(options.getOrDefault("out", "target/perf-result.json"));
+
+        // 対象のアプリ（指定がなければperfプロファイルで起動する）
+        ConfigurableApplicationContext application = null;
+        String baseUrl = options.get("target");
+        if (baseUrl == null) {
+            application = new SpringApplicationBuilder(DailyReportSystemApplication.class).profiles("perf")
+                    .properties("server.port=0", "server.ajp.enabled=false", "spring.devtools.restart.enabled=false")
+                    .run();
+            int port = ((ServletWebServerApplicationContext) application).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+        }
+
+        try {
+            // 全員がログインしてから一斉に開始する
+            List<VirtualUser> virtualUsers = new ArrayList<VirtualUser>();
+            for (int i = 1; i <= users; i++) {
+                VirtualUser user = new VirtualUser(baseUrl, String.valueOf(i), i % 10 == 1, maxReportId);
+                user.login(password);
+                virtualUsers.add(user);
+            }
+
+            run(virtualUsers, Duration.ofSeconds(warmup));
+            for (VirtualUser user : virtualUsers) {
+                user.reset();
+            }
+            run(virtualUsers, Duration.ofSeconds(duration));
+
+            boolean passed = report(virtualUsers, duration, options.get("max-p99-ms"), out);
+            if (!passed) {
+                System.exit(1);
+            }
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    // 指定した時間、全員に並行して操作させる
+    private static void run(List<VirtualUser> virtualUsers, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch finished = new CountDownLatch(virtualUsers.size());
+        for (VirtualUser user : virtualUsers) {
+            Thread thread = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        user.next();
+                    }
+                } finally {
+                    finished.countDown();
+                }
+            }, "load-" + user.code);
+            thread.start();
+        }
+        finished.await();
+    }
+
+    // 画面ごとの結果を集計して出力する（上限を超えた場合はfalseを返す）
+    private static boolean report(List<VirtualUser> virtualUsers, int duration, String maxP99, Path out)
+            throws IOException {
+        boolean passed = true;
+        PrintStream console = System.out;
+        StringBuilder json = new StringBuilder("[");
+        console.printf("%-10s %8s %7s %9s %9s %9s %9s %9s%n", "action", "count", "errors", "req/s", "p50(ms)",
+                "p90(ms)", "p99(ms)", "max(ms)");
+
+        for (Action action : Action.values()) {
+            int count = 0;
+            int errors = 0;
+            for (VirtualUser user : virtualUsers) {
+                count += user.latencies.get(action).size();
+                errors += user.errors.get(action);
+            }
+            long[] latencies = new long[count];
+            int index = 0;
+            for (VirtualUser user : virtualUsers) {
+                for (Long latency : user.latencies.get(action)) {
+                    latencies[index++] = latency;
+                }
+            }
+            Arrays.sort(latencies);
+
+            double throughput = (double) count / duration;
+            double p50 = percentile(latencies, 0.50);
+            double p90 = percentile(latencies, 0.90);
+            double p99 = percentile(latencies, 0.99);
+            double max = count == 0 ? 0 : latencies[count - 1] / 1_000_000.0;
+            console.printf("%-10s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", action, count, errors, throughput, p50,
+                    p90, p99, max);
+
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(String.format(Locale.ROOT,
+                    "{\"action\":\"%s\",\"count\":%d,\"errors\":%d,\"throughput\":%.1f,\"p50\":%.1f,\"p90\":%.1f,\"p99\":%.1f,\"max\":%.1f}",
+                    action, count, errors, throughput, p50, p90, p99, max));
+
+            if (errors > 0 || (maxP99 != null && p99 > Double.parseDouble(maxP99))) {
+                passed = false;
+            }
+        }
+        json.append(']');
+
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        Files.writeString(out, json);
+        return passed;
+    }
+
+    // ナノ秒のソート済み配列からパーセンタイル（ミリ秒）を求める
+    private static double percentile(long[] sorted, double rate) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(rate * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<String, String>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    // ログインした1人分の従業員（セッションごとにHTTPクライアントを持つ）
+    static class VirtualUser {
+
+        private final String baseUrl;
+        private final String code;
+        private final boolean admin;
+        private final int maxReportId;
+        private final HttpClient client;
+        private final Map<Action, List<Long>> latencies = new EnumMap<Action, List<Long>>(Action.class);
+        private final Map<Action, Integer> errors = new EnumMap<Action, Integer>(Action.class);
+        private String csrf;
+        // 日報の登録日（既存の日報と重ならないよう今日から1日ずつ進める）
+        private LocalDate nextReportDate = LocalDate.now();
+
+        VirtualUser(String baseUrl, String code, boolean admin, int maxReportId) {
+            this.baseUrl = baseUrl;
+            this.code = code;
+            this.admin = admin;
+            this.maxReportId = maxReportId;
+            this.client = HttpClient.newBuilder().cookieHandler(new CookieManager())
+                    .followRedirects(HttpClient.Redirect.NEVER).connectTimeout(Duration.ofSeconds(10)).build();
+            reset();
+        }
+
+        void reset() {
+            for (Action action : Action.values()) {
+                latencies.put(action, new ArrayList<Long>());
+                errors.put(action, 0);
+            }
+        }
+
+        // ログイン（CSRFトークンを取得してからフォーム送信）
+        void login(String password) throws IOException, InterruptedException {
+            String token = csrf(send(get("/login")).body());
+            HttpResponse<String> response = send(post("/login",
+                    Map.of("username", code, "password", password, "_csrf", token)));
+            if (response.statusCode() != 302 || response.headers().firstValue("Location").orElse("").contains("error")) {
+                throw new IllegalStateException("社員番号" + code + "でログインできません");
+            }
+            // ログイン後はCSRFトークンが変わるため取り直す
+            csrf = csrf(send(get("/reports/add")).body());
+        }
+
+        // 重みに応じて次の操作を選んで実行する
+        void next() {
+            int total = 0;
+            for (Action action : Action.values()) {
+                total += action.weight;
+            }
+            int value = ThreadLocalRandom.current().nextInt(total);
+            Action selected = Action.LIST;
+            for (Action action : Action.values()) {
+                if (value < action.weight) {
+                    selected = action;
+                    break;
+                }
+                value -= action.weight;
+            }
+            // 従業員一覧は管理者のみ（一般の従業員は日報一覧に置き換える）
+            if (selected == Action.EMPLOYEES && !admin) {
+                selected = Action.LIST;
+            }
+            execute(selected);
+        }
+
+        private void execute(Action action) {
+            HttpRequest request;
+            int expected = 200;
+            switch (action) {
+            case DETAIL:
+                request = get("/reports/" + ThreadLocalRandom.current().nextInt(1, maxReportId + 1) + "/details");
+                break;
+            case ADD:
+                request = post("/reports/add", Map.of("reportDate", nextReportDate.toString(), "title",
+                        "負荷試験の日報", "content", "本日は顧客訪問と資料作成を行いました。", "_csrf", csrf));
+                nextReportDate = nextReportDate.plusDays(1);
+                expected = 302;
+                break;
+            case EMPLOYEES:
+                request = get("/employees");
+                break;
+            default:
+                request = get("/reports");
+                break;
+            }
+
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = send(request);
+                latencies.get(action).add(System.nanoTime() - start);
+                if (response.statusCode() != expected) {
+                    errors.merge(action, 1, Integer::sum);
+                }
+            } catch (IOException e) {
+                latencies.get(action).add(System.nanoTime() - start);
+                errors.merge(action, 1, Integer::sum);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        }
+
+        private HttpRequest post(String path, Map<String, String> form) {
+            StringBuilder body = new StringBuilder();
+            for (Map.Entry<String, String> entry : form.entrySet()) {
+                if (body.length() > 0) {
+                    body.append('&');
+                }
+                body.append(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8)).append('=')
+                        .append(URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8));
+            }
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.toString())).build();
+        }
+
+        private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+
+        private String csrf(String html) {
+            Matcher matcher = CSRF_PATTERN.matcher(html);
+            if (!matcher.find()) {
+                throw new IllegalStateException("CSRFトークンが見つかりません");
+            }
+            return matcher.group(1);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.techacademy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+    // スレッド数・待ち行列の長さが0以下の場合は作成時にエラーとすること
+    @Test
+    void testInvalidSize() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoundedPasswordEncoder(new PlainEncoder(null, null), 0, 1, Duration.ofSeconds(1), registry));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoundedPasswordEncoder(new PlainEncoder(null, null), 1, 0, Duration.ofSeconds(1), registry));
+    }
+
+    // 実行中の処理・待ち行列が埋まっている場合は待たずにBusyExceptionとすること
+    @Test
+    void testRejected() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new PlainEncoder(started, release), 1, 1,
+                Duration.ofSeconds(10), registry);
+        // 1件目は実行中、2件目は空きを待つ
+        Thread running = new Thread(() -> encoder.encode("running"));
+        running.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(1.0, registry.get("password.encoder.active").gauge().value());
+        Thread queued = new Thread(() -> encoder.encode("queued"));
+        queued.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("password.encoder.queued").gauge().value() < 1) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+
+        assertThrows(BoundedPasswordEncoder.BusyException.class, () -> encoder.encode("rejected"));
+        assertEquals(1.0, registry.get("password.encoder.rejected").counter().count());
+
+        release.countDown();
+        running.join();
+        queued.join();
+        assertEquals("encoded:after", encoder.encode("after"));
+        assertEquals(0.0, registry.get("password.encoder.active").gauge().value());
+    }
+
+    // 待ち時間の上限までに空きができない場合はBusyExceptionとすること
+    @Test
+    void testTimeout() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new PlainEncoder(started, release), 1, 1,
+                Duration.ofMillis(50), new SimpleMeterRegistry());
+        Thread running = new Thread(() -> encoder.encode("running"));
+        running.start();
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertThrows(BoundedPasswordEncoder.BusyException.class, () -> encoder.encode("waiting"));
+        } finally {
+            release.countDown();
+            running.join();
+        }
+    }
+
+    // 呼び出し元のスレッドで実行すること（別スレッドに受け渡さない）
+    @Test
+    void testCallerThread() {
+        Thread caller = Thread.currentThread();
+        PasswordEncoder threadCheck = new PlainEncoder(null, null) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                assertSame(caller, Thread.currentThread());
+                return super.encode(rawPassword);
+            }
+        };
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(threadCheck, 1, 1, Duration.ofSeconds(1),
+                new SimpleMeterRegistry());
+        assertEquals("encoded:raw", encoder.encode("raw"));
+        assertTrue(encoder.matches("raw", "encoded:raw"));
+    }
+
+    // 開始を通知し、解除されるまで待ってから値をそのまま返すPasswordEncoder
+    private static class PlainEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        PlainEncoder(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (started != null) {
+                started.countDown();
+            }
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "encoded:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
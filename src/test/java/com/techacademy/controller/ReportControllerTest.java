@@ -0,0 +1,188 @@
+package com.techacademy.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.techacademy.entity.Employee;
+import com.techacademy.entity.Employee.Role;
+import com.techacademy.service.ReportListCache;
+import com.techacademy.service.UserDetail;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ExtendWith(SpringExtension.class)
+class ReportControllerTest {
+
+    private MockMvc mockMvc;
+
+    private final WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReportListCache reportListCache;
+
+    private Statistics statistics;
+
+    ReportControllerTest(WebApplicationContext context) {
+        this.webApplicationContext = context;
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        // Spring Securityを有効にする
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+        // 発行したSQLの件数をリセットする
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        // 前のテストで描画した日報一覧を破棄する
+        reportListCache.clear();
+    }
+
+    // 日報一覧画面
+    // ページ取得と件数取得の2回のSQLのみで表示できること
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void testList() throws Exception {
+        // HTTPリクエストに対するレスポンスの検証
+        mockMvc.perform(get("/reports")) // URLにアクセス
+                .andExpect(status().isOk()) // ステータスを確認
+                .andExpect(model().attributeExists("reportList")) // Modelの内容を確認
+                .andExpect(view().name("reports/list")); // viewの確認
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    // 日報一覧画面（2回目）
+    // 日報が変更されていなければ、描画済みの一覧を再利用しSQLを発行しないこと
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void testListCached() throws Exception {
+        mockMvc.perform(get("/reports")).andExpect(status().isOk());
+        statistics.clear();
+
+        mockMvc.perform(get("/reports"))
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("reportTable"))
+                .andExpect(model().attributeDoesNotExist("reportList"))
+                .andExpect(view().name("reports/list"));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    // 日報詳細画面
+    // 更新日時の確認と、日報・従業員情報の取得の2回のSQLで表示できること
+    @Test
+    void testDetail() throws Exception {
+        // HTTPリクエストに対するレスポンスの検証
+        mockMvc.perform(get("/reports/1/details").with(user(loginUser()))) // URLにアクセス
+                .andExpect(status().isOk()) // ステータスを確認
+                .andExpect(header().exists(HttpHeaders.ETAG)) // ETagを確認
+                .andExpect(model().attributeExists("report")) // Modelの内容を確認
+                .andExpect(view().name("reports/detail")); // viewの確認
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    // 日報詳細画面（再表示）
+    // 日報が更新されていなければ、更新日時の確認の1回のSQLのみで304を返すこと
+    @Test
+    void testDetailNotModified() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        String etag = mockMvc.perform(get("/reports/1/details").session(session).with(user(loginUser())))
+                .andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        statistics.clear();
+
+        // HTTPリクエストに対するレスポンスの検証
+        mockMvc.perform(get("/reports/1/details").session(session).with(user(loginUser()))
+                .header(HttpHeaders.IF_NONE_MATCH, etag)) // 前回のETagを付けてアクセス
+                .andExpect(status().isNotModified()); // ステータスを確認
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    // 日報更新画面
+    // 日報と従業員情報を1回のSQLで取得できること
+    @Test
+    void testUpdateForm() throws Exception {
+        // HTTPリクエストに対するレスポンスの検証
+        mockMvc.perform(get("/reports/1/update").with(user(loginUser()))) // URLにアクセス
+                .andExpect(status().isOk()) // ステータスを確認
+                .andExpect(model().attributeExists("report")) // Modelの内容を確認
+                .andExpect(view().name("reports/Update")); // viewの確認
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    // 日報検索画面（キーワード未入力）
+    // 検索せずに検索画面を表示すること
+    @Test
+    @WithMockUser
+    void testSearchBlank() throws Exception {
+        mockMvc.perform(get("/reports/search").param("q", " "))
+                .andExpect(status().isOk())
+                .andExpect(model().attributeDoesNotExist("reportPage"))
+                .andExpect(view().name("reports/search"));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    // 日報検索画面（ページ番号の指定）
+    // 負のページ番号は先頭ページとし、大きすぎるページ番号でもエラーにならないこと
+    @Test
+    @WithMockUser
+    void testSearchPage() throws Exception {
+        mockMvc.perform(get("/reports/search").param("q", "日報").param("page", "-1"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("page", 0))
+                .andExpect(view().name("reports/search"));
+
+        mockMvc.perform(get("/reports/search").param("q", "日報").param("page", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("reportList", List.of()))
+                .andExpect(view().name("reports/search"));
+    }
+
+    // ログイン中の従業員
+    private UserDetail loginUser() {
+        Employee employee = new Employee();
+        employee.setCode("1");
+        employee.setName("煌木　太郎");
+        LocalDateTime now = LocalDateTime.now();
+        employee.setCreatedAt(now);
+        employee.setUpdatedAt(now);
+        employee.setDeleteFlg(false);
+        employee.setPassword("");
+        employee.setRole(Role.ADMIN);
+        return new UserDetail(employee);
+    }
+
+}
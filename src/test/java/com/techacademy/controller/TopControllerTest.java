@@ -1,6 +1,7 @@
 package com.techacademy.controller;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.logout;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -55,4 +56,30 @@ class TopControllerTest {
         this.mockMvc.perform(logout());
     }
 
+    // 死活監視は未ログインでアクセス可
+    @Test
+    void testHealth() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    // メトリクス収集は未ログインの場合HTTP Basic認証を求めること
+    @Test
+    void testPrometheusUnauthorized() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+    }
+
+    // 画面はHTTP Basic認証を受け付けず、ログイン画面に遷移すること
+    @Test
+    void testBasicAuthRejected() throws Exception {
+        mockMvc.perform(get("/reports").with(httpBasic("1", "password")))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    // メトリクス収集は管理者のみ（一般ユーザーはアクセス不可）
+    @Test
+    @WithMockUser(authorities = "GENERAL")
+    void testPrometheusForbidden() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+    }
+
 }
@@ -0,0 +1,70 @@
+package com.techacademy.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+    // カンマ区切り・改行（LF・CRLF）でレコードを分割すること
+    @Test
+    void testReadRecord() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b,c\r\nd,,f\ng"));
+
+        assertEquals(List.of("a", "b", "c"), reader.readRecord());
+        assertEquals(List.of("d", "", "f"), reader.readRecord());
+        assertEquals(List.of("g"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    // レコードが始まるファイル上の行番号を返すこと（引用符内の改行、LF・CRLF・CRのいずれも1行と数える）
+    @Test
+    void testLineNumber() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a\r\n\"1行目\n2行目\r\n3行目\"\rb\nc"));
+
+        reader.readRecord();
+        assertEquals(1, reader.getLineNumber());
+        reader.readRecord();
+        assertEquals(2, reader.getLineNumber());
+        assertEquals(List.of("b"), reader.readRecord());
+        assertEquals(5, reader.getLineNumber());
+        assertEquals(List.of("c"), reader.readRecord());
+        assertEquals(6, reader.getLineNumber());
+    }
+
+    // ダブルクォートで囲まれた値の中のカンマ・改行・エスケープしたダブルクォートを値として読み込むこと
+    @Test
+    void testReadQuotedRecord() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"a,b\",\"1行目\r\n2行目\",\"引用\"\"符\"\nx"));
+
+        assertEquals(List.of("a,b", "1行目\r\n2行目", "引用\"符"), reader.readRecord());
+        assertEquals(List.of("x"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    // 先頭のBOMは読み飛ばすこと
+    @Test
+    void testSkipBom() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFemployee_code,report_date"));
+
+        assertEquals(List.of("employee_code", "report_date"), reader.readRecord());
+    }
+
+    // 最大文字数を超える項目があるレコードは長すぎるものとして判定し、次のレコードには影響しないこと
+    @Test
+    void testTooLongField() throws IOException {
+        String longValue = "あ".repeat(CsvReader.MAX_FIELD_LENGTH + 1);
+        CsvReader reader = new CsvReader(new StringReader("1," + longValue + "\n1,短い値\n"));
+
+        List<String> record = reader.readRecord();
+        assertTrue(reader.isTooLong());
+        assertEquals(CsvReader.MAX_FIELD_LENGTH, record.get(1).length());
+
+        assertEquals(List.of("1", "短い値"), reader.readRecord());
+        assertFalse(reader.isTooLong());
+    }
+}
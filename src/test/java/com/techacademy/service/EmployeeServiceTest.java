@@ -44,6 +44,14 @@ class EmployeeServiceTest {
         // 登録日付、更新日付はミリ秒単位での結果比較となるためテストでの確認不可
     }
 
+    @Test
+    @WithMockUser
+    void testCount() {
+
+        // 一覧に表示される件数と一致すること
+        assertEquals(service.findAll().size(), service.count());
+    }
+
     @Test
     @WithMockUser
     void testFindByCode() {
@@ -0,0 +1,167 @@
+package com.techacademy.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.techacademy.repository.EmployeeSummary;
+
+// コミット後に索引へ反映されることを確認するため、テストデータはコミットし、テストごとに削除する
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@Import(ReportFixtures.class)
+class ReportComplianceServiceTest {
+
+    // 索引の範囲内の先月（初日以降の最初の平日とその翌平日を使用する）
+    private static final YearMonth MONTH = YearMonth.now().minusMonths(1);
+    private static final LocalDate FIRST_DAY = nextBusinessDay(MONTH.atDay(1));
+    private static final LocalDate SECOND_DAY = nextBusinessDay(FIRST_DAY.plusDays(1));
+
+    @Autowired
+    private ReportComplianceService service;
+
+    @Autowired
+    private ReportFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void beforeEach() {
+        fixtures.insertEmployee("T1");
+        fixtures.insertEmployee("T2");
+        // トランザクション中に索引を作成すると未コミットの日報を読み込むため、先に作成しておく
+        service.rebuild();
+    }
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.update("DELETE FROM reports WHERE employee_code IN ('T1', 'T2')");
+        jdbcTemplate.update("DELETE FROM employees WHERE code IN ('T1', 'T2')");
+        service.rebuild();
+    }
+
+    // 日報の登録はコミット後に反映され、削除もコミット後に反映されること
+    @Test
+    void testAddAndRemoveAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            fixtures.insertReport("T1", FIRST_DAY);
+            service.addReport("T1", FIRST_DAY);
+            // コミット前は未提出のまま
+            assertEquals(List.of("T1", "T2"), missingOn(FIRST_DAY));
+        });
+        assertEquals(List.of("T2"), missingOn(FIRST_DAY));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM reports WHERE employee_code = 'T1'");
+            service.removeReport("T1", FIRST_DAY);
+            assertEquals(List.of("T2"), missingOn(FIRST_DAY));
+        });
+        assertEquals(List.of("T1", "T2"), missingOn(FIRST_DAY));
+    }
+
+    // ロールバックした日報の登録は反映されないこと
+    @Test
+    void testAddRollback() {
+        transactionTemplate.executeWithoutResult(status -> {
+            fixtures.insertReport("T1", FIRST_DAY);
+            service.addReport("T1", FIRST_DAY);
+            status.setRollbackOnly();
+        });
+        assertEquals(List.of("T1", "T2"), missingOn(FIRST_DAY));
+    }
+
+    // 従業員の日報の一括削除で、その従業員の提出日がすべて未提出となること
+    @Test
+    void testRemoveEmployee() {
+        fixtures.insertReport("T1", FIRST_DAY);
+        fixtures.insertReport("T1", SECOND_DAY);
+        service.addReport("T1", FIRST_DAY);
+        service.addReport("T1", SECOND_DAY);
+        assertEquals(List.of("T2"), missingOn(SECOND_DAY));
+
+        jdbcTemplate.update("DELETE FROM reports WHERE employee_code = 'T1'");
+        service.removeEmployee("T1");
+        assertEquals(List.of("T1", "T2"), missingOn(FIRST_DAY));
+        assertEquals(List.of("T1", "T2"), missingOn(SECOND_DAY));
+    }
+
+    // 索引の作成時に登録済みの日報を読み込み、未提出の日を平日ごとに求めること
+    @Test
+    void testCalendar() {
+        fixtures.insertReport("T1", FIRST_DAY);
+        fixtures.insertReport("T2", FIRST_DAY);
+        fixtures.insertReport("T2", SECOND_DAY);
+        // 土曜日の日報は未提出の判定に影響しない
+        fixtures.insertReport("T1", FIRST_DAY.with(DayOfWeek.SATURDAY));
+        service.rebuild();
+
+        assertEquals(List.of(), missingOn(FIRST_DAY));
+        assertEquals(List.of("T1"), missingOn(SECOND_DAY));
+
+        ComplianceCalendar calendar = service.findCalendar(MONTH, 1);
+        List<LocalDate> businessDays = calendar.getBusinessDays();
+        assertEquals(MONTH.atDay(1), calendar.getFrom());
+        assertEquals(MONTH.atEndOfMonth(), calendar.getTo());
+        assertTrue(businessDays.stream().allMatch(date -> date.getDayOfWeek().getValue() <= 5));
+
+        ComplianceCalendar.Row t1 = row(calendar, "T1");
+        assertEquals(businessDays.size() - 1, t1.getMissedDays());
+        assertFalse(t1.getMissing().get(businessDays.indexOf(FIRST_DAY)));
+        assertTrue(t1.getMissing().get(businessDays.indexOf(SECOND_DAY)));
+
+        ComplianceCalendar.Row t2 = row(calendar, "T2");
+        assertEquals(businessDays.size() - 2, t2.getMissedDays());
+        assertFalse(t2.getMissing().get(businessDays.indexOf(SECOND_DAY)));
+    }
+
+    // 従業員の登録後は、在籍中の従業員を読み込み直して未提出に含めること
+    @Test
+    void testInvalidateEmployees() {
+        assertEquals(List.of("T1", "T2"), missingOn(FIRST_DAY));
+
+        fixtures.insertEmployee("T3");
+        try {
+            service.invalidateEmployees();
+            assertEquals(List.of("T1", "T2", "T3"), missingOn(FIRST_DAY));
+        } finally {
+            jdbcTemplate.update("DELETE FROM employees WHERE code = 'T3'");
+        }
+    }
+
+    // テスト用の従業員のうち、指定した日に日報を提出していない従業員の社員番号
+    private List<String> missingOn(LocalDate date) {
+        return service.findMissingOn(date).stream().map(EmployeeSummary::getCode)
+                .filter(code -> code.startsWith("T")).collect(Collectors.toList());
+    }
+
+    private ComplianceCalendar.Row row(ComplianceCalendar calendar, String employeeCode) {
+        return calendar.getRows().stream().filter(row -> employeeCode.equals(row.getEmployeeCode())).findFirst().get();
+    }
+
+    private static LocalDate nextBusinessDay(LocalDate date) {
+        while (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            date = date.plusDays(1);
+        }
+        return date;
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.techacademy.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.techacademy.entity.Report;
+import com.techacademy.repository.EmployeeRepository;
+
+// サービスのテストで使用する従業員・日報のテストデータ（@Import で読み込んで使用する）
+// 登録はSQLで直接行うため、日報の集計・索引には反映されない
+@TestComponent
+class ReportFixtures {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmployeeRepository employeeRepository;
+
+    @Autowired
+    ReportFixtures(JdbcTemplate jdbcTemplate, EmployeeRepository employeeRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.employeeRepository = employeeRepository;
+    }
+
+    // 一般権限の従業員を登録する（登録日時は現在日時）
+    void insertEmployee(String code) {
+        insertEmployee(code, LocalDateTime.now());
+    }
+
+    // 指定した日に登録された一般権限の従業員を登録する
+    void insertEmployee(String code, LocalDate hiredOn) {
+        insertEmployee(code, hiredOn.atStartOfDay());
+    }
+
+    // 日報を登録し、IDを返す
+    int insertReport(String employeeCode, LocalDate reportDate) {
+        return insertReport(employeeCode, reportDate, "タイトル", "内容");
+    }
+
+    int insertReport(String employeeCode, LocalDate reportDate, String title, String content) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO reports"
+                + " (report_date, title, content, employee_code, delete_flg, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, false, ?, ?)", Date.valueOf(reportDate), title, content, employeeCode, now,
+                now);
+        return jdbcTemplate.queryForObject("SELECT id FROM reports WHERE employee_code = ? AND report_date = ?",
+                Integer.class, employeeCode, Date.valueOf(reportDate));
+    }
+
+    // ReportService で登録する日報（未登録の状態）
+    Report newReport(String employeeCode, LocalDate reportDate) {
+        Report report = new Report();
+        report.setReportDate(reportDate);
+        report.setTitle("タイトル");
+        report.setContent("内容");
+        report.setEmployee(employeeRepository.findById(employeeCode).get());
+        return report;
+    }
+
+    private void insertEmployee(String code, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.update("INSERT INTO employees (code, name, role, password, delete_flg, created_at, updated_at)"
+                + " VALUES (?, ?, 'GENERAL', '', 0, ?, ?)", code, "テスト　" + code, timestamp, timestamp);
+    }
+}
@@ -0,0 +1,70 @@
+package com.techacademy.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+// バッチの区切りをまたぐよう2件ごとに登録する（テストで登録したデータはロールバックする）
+@SpringBootTest(properties = "report.import.batch-size=2")
+@ExtendWith(SpringExtension.class)
+@Transactional
+class ReportImportServiceTest {
+
+    @Autowired
+    private ReportImportService service;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 日報一括登録
+    // 正しい行のみ登録し、既に登録済みの日付・入力エラーの行は行番号付きのエラーとすること
+    // 行番号は引用符内の改行も含めたファイル上の行とすること
+    @Test
+    void testImportCsv() throws IOException {
+        String csv = "employee_code,report_date,title,content\r\n"
+                + "1,1901-01-01,タイトル1,内容1\r\n"
+                + "1,1901-01-02,\"カンマ,を含む\",\"改行を\r\n含む\"\r\n"
+                + "\r\n"
+                + "1,1901-01-03,タイトル3,内容3\r\n"
+                // 前のバッチで登録した日付と重複
+                + "1,1901-01-01,重複,重複\r\n"
+                + "999999,1901-01-04,存在しない従業員,内容\r\n"
+                + "1,1901/01/05,日付の形式誤り,内容\r\n"
+                + "1,1901-01-06,項目数不足\r\n"
+                + "1,1901-01-07,長すぎる内容," + "あ".repeat(CsvReader.MAX_FIELD_LENGTH + 1) + "\r\n";
+
+        ReportImportResult result = service.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(3, result.getImportedCount());
+        assertEquals(1, result.getDuplicateCount());
+        assertEquals(4, result.getErrorCount());
+        assertTrue(result.getErrors().stream().anyMatch(e -> e.startsWith("7行目")));
+        assertTrue(result.getErrors().stream().anyMatch(e -> e.startsWith("8行目") && e.contains("999999")));
+        assertTrue(result.getErrors().stream().anyMatch(e -> e.startsWith("11行目") && e.contains("文字数")));
+
+        // 引用符で囲まれたカンマ・改行はそのまま登録されること
+        assertEquals("改行を\r\n含む", jdbcTemplate.queryForObject(
+                "SELECT content FROM reports WHERE employee_code = '1' AND report_date = ?", String.class,
+                Date.valueOf(LocalDate.of(1901, 1, 2))));
+        // 重複した行で既存の日報が上書きされないこと
+        assertEquals("タイトル1", jdbcTemplate.queryForObject(
+                "SELECT title FROM reports WHERE employee_code = '1' AND report_date = ?", String.class,
+                Date.valueOf(LocalDate.of(1901, 1, 1))));
+        // 長すぎる行は途中までの内容でも登録しないこと
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reports WHERE employee_code = '1' AND report_date = ?", Integer.class,
+                Date.valueOf(LocalDate.of(1901, 1, 7))));
+    }
+}
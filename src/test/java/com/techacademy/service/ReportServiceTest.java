@@ -0,0 +1,183 @@
+package com.techacademy.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.techacademy.constants.ErrorKinds;
+import com.techacademy.entity.Report;
+import com.techacademy.repository.ReportSummary;
+
+// テストで登録したデータはテストごとにロールバックする（全文検索のテストを除く）
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@Import(ReportFixtures.class)
+@Transactional
+class ReportServiceTest {
+
+    // 既存の日報より新しい日付・古い日付（一覧の先頭・末尾に並ぶ）
+    private static final LocalDate NEWEST = LocalDate.of(2999, 1, 3);
+    private static final LocalDate OLDEST = LocalDate.of(1900, 1, 1);
+    // 全文検索の確認用の日報の日付
+    private static final LocalDate SEARCH_DATE = LocalDate.of(1902, 1, 1);
+
+    @Autowired
+    private ReportService service;
+
+    @Autowired
+    private ReportFixtures fixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 日報一覧の先頭ページ
+    // 日付の降順、同じ日付はIDの降順に並び、前ページはなく次ページがあること
+    @Test
+    void testFindReportPageFirst() {
+        insertEmployees();
+        int newest = fixtures.insertReport("T1", NEWEST);
+        int tieOlder = fixtures.insertReport("T1", NEWEST.minusDays(1));
+        int tieNewer = fixtures.insertReport("T2", NEWEST.minusDays(1));
+
+        ReportPage page = service.findReportPage(null, null, null, null, 3);
+
+        assertEquals(List.of(newest, tieNewer, tieOlder), ids(page));
+        assertTrue(page.isHasNext());
+        assertFalse(page.isHasPrevious());
+    }
+
+    // 日報一覧の次ページ・前ページ
+    // 同じ日付の日報がページをまたいでも重複・欠落がないこと
+    @Test
+    void testFindReportPageNextAndPrevious() {
+        insertEmployees();
+        int newest = fixtures.insertReport("T1", NEWEST);
+        int tieOlder = fixtures.insertReport("T1", NEWEST.minusDays(1));
+        int tieNewer = fixtures.insertReport("T2", NEWEST.minusDays(1));
+        int fourth = fixtures.insertReport("T2", NEWEST.minusDays(2));
+
+        ReportPage first = service.findReportPage(null, null, null, null, 2);
+        assertEquals(List.of(newest, tieNewer), ids(first));
+
+        // 次ページ（先頭ページの末尾を起点とする）
+        ReportPage next = service.findReportPage(first.getLast().getReportDate(), first.getLast().getId(), null,
+                null, 2);
+        assertEquals(List.of(tieOlder, fourth), ids(next));
+        assertTrue(next.isHasPrevious());
+        assertTrue(next.isHasNext());
+
+        // 前ページ（次ページの先頭を起点とする）は先頭ページと同じ内容で、さらに前のページはないこと
+        ReportPage previous = service.findReportPage(null, null, next.getFirst().getReportDate(),
+                next.getFirst().getId(), 2);
+        assertEquals(List.of(newest, tieNewer), ids(previous));
+        assertFalse(previous.isHasPrevious());
+        assertTrue(previous.isHasNext());
+    }
+
+    // 日報一覧の最終ページ
+    // 次ページがないこと
+    @Test
+    void testFindReportPageLast() {
+        insertEmployees();
+        int tieOlder = fixtures.insertReport("T1", OLDEST.plusDays(1));
+        int tieNewer = fixtures.insertReport("T2", OLDEST.plusDays(1));
+        int oldest = fixtures.insertReport("T1", OLDEST);
+
+        ReportPage page = service.findReportPage(OLDEST.plusDays(1), tieNewer, null, null, 2);
+
+        assertEquals(List.of(tieOlder, oldest), ids(page));
+        assertFalse(page.isHasNext());
+        assertTrue(page.isHasPrevious());
+
+        // 最も古い日報より後ろには日報がなく、ページ送りのリンクも出さないこと
+        ReportPage empty = service.findReportPage(OLDEST, oldest, null, null, 2);
+        assertTrue(empty.getReportList().isEmpty());
+        assertFalse(empty.isHasNext());
+        assertFalse(empty.isHasPrevious());
+    }
+
+    // 日報の全文検索
+    // 一致した箇所の多い日報から順に並び、ページ番号で分割できること
+    // （FULLTEXTインデックスはコミットされた行のみ検索できるため、トランザクション外で登録して最後に削除する）
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testSearchReports() {
+        try {
+            int most = fixtures.insertReport("1", SEARCH_DATE, "検索語句ＺＱＸ 検索語句ＺＱＸ", "検索語句ＺＱＸ 検索語句ＺＱＸ 検索語句ＺＱＸ");
+            int titleOnly = fixtures.insertReport("1", SEARCH_DATE.plusDays(1), "検索語句ＺＱＸ", "その他");
+            int contentOnly = fixtures.insertReport("1", SEARCH_DATE.plusDays(2), "その他", "検索語句ＺＱＸ");
+
+            ReportPage first = service.searchReports("検索語句ＺＱＸ", 0, 2);
+            assertEquals(most, first.getReportList().get(0).getId());
+            assertEquals(2, first.getReportList().size());
+            assertTrue(first.isHasNext());
+            assertFalse(first.isHasPrevious());
+
+            ReportPage second = service.searchReports("検索語句ＺＱＸ", 1, 2);
+            assertEquals(1, second.getReportList().size());
+            assertFalse(second.isHasNext());
+            assertTrue(second.isHasPrevious());
+
+            // 全ページで3件が重複なく取得できること
+            List<Integer> ids = new ArrayList<Integer>(ids(first));
+            ids.addAll(ids(second));
+            assertEquals(Set.of(most, titleOnly, contentOnly), new HashSet<Integer>(ids));
+            assertEquals(3, ids.size());
+
+            // ページ番号が大きすぎる場合も読み飛ばす件数が桁あふれせず、空のページとなること
+            ReportPage tooFar = service.searchReports("検索語句ＺＱＸ", Integer.MAX_VALUE, 2);
+            assertTrue(tooFar.getReportList().isEmpty());
+        } finally {
+            jdbcTemplate.update("DELETE FROM reports WHERE employee_code = '1' AND report_date BETWEEN ? AND ?",
+                    Date.valueOf(SEARCH_DATE), Date.valueOf(SEARCH_DATE.plusDays(2)));
+        }
+    }
+
+    // 同じ従業員・同じ日付の日報の登録は日付重複エラーとなること
+    @Test
+    void testCreateReportDuplicateDate() {
+        fixtures.insertEmployee("T1");
+        fixtures.insertReport("T1", NEWEST);
+
+        ErrorKinds result = service.createReport(fixtures.newReport("T1", NEWEST), "T1");
+        assertEquals(ErrorKinds.DATECHECK_ERROR, result);
+    }
+
+    // 日付重複以外の整合性エラー（従業員が存在しない）は日付重複エラーとせずそのまま通知されること
+    @Test
+    void testCreateReportOtherViolation() {
+        fixtures.insertEmployee("T1");
+        Report report = fixtures.newReport("T1", NEWEST);
+        jdbcTemplate.update("DELETE FROM employees WHERE code = 'T1'");
+
+        assertThrows(DataIntegrityViolationException.class, () -> service.createReport(report, "T1"));
+    }
+
+    private List<Integer> ids(ReportPage page) {
+        return page.getReportList().stream().map(ReportSummary::getId).collect(Collectors.toList());
+    }
+
+    // 同じ日付の日報を登録するため、従業員を2名用意する
+    private void insertEmployees() {
+        fixtures.insertEmployee("T1");
+        fixtures.insertEmployee("T2");
+    }
+
+}
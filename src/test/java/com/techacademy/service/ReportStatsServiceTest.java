@@ -0,0 +1,129 @@
+package com.techacademy.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.techacademy.constants.ErrorKinds;
+import com.techacademy.entity.Report;
+
+// テストで登録したデータはテストごとにロールバックする
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@Import(ReportFixtures.class)
+@Transactional
+class ReportStatsServiceTest {
+
+    // 既存の日報がない月（2001年1月は1日が月曜日で、平日は23日）
+    private static final YearMonth MONTH = YearMonth.of(2001, 1);
+    private static final LocalDate MONDAY = MONTH.atDay(1);
+    private static final LocalDate SATURDAY = MONTH.atDay(6);
+    // 集計する月より前の従業員の登録日
+    private static final LocalDate HIRED_ON = MONTH.minusMonths(1).atDay(1);
+
+    @Autowired
+    private ReportStatsService service;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportFixtures fixtures;
+
+    // 日報の登録で件数が加算され、削除で減算されること
+    @Test
+    void testAddAndRemoveReport() {
+        fixtures.insertEmployee("T1", HIRED_ON);
+
+        Report monday = fixtures.newReport("T1", MONDAY);
+        assertEquals(ErrorKinds.SUCCESS, reportService.createReport(monday, "T1"));
+        assertStats(1, 1, 22, stats("T1"));
+
+        // 土曜日の日報は提出件数のみ加算する
+        assertEquals(ErrorKinds.SUCCESS, reportService.createReport(fixtures.newReport("T1", SATURDAY), "T1"));
+        assertStats(2, 1, 22, stats("T1"));
+
+        assertEquals(ErrorKinds.SUCCESS, reportService.deleteReport(monday.getId()));
+        assertStats(1, 0, 23, stats("T1"));
+    }
+
+    // 日付重複で登録できなかった日報は集計に加算されないこと
+    @Test
+    void testDuplicateReportNotCounted() {
+        fixtures.insertEmployee("T1", HIRED_ON);
+        assertEquals(ErrorKinds.SUCCESS, reportService.createReport(fixtures.newReport("T1", MONDAY), "T1"));
+
+        assertEquals(ErrorKinds.DATECHECK_ERROR, reportService.createReport(fixtures.newReport("T1", MONDAY), "T1"));
+        assertStats(1, 1, 22, stats("T1"));
+    }
+
+    // 平日（月～金）の日数を数え、当月は本日まで、未来の月は0日とすること
+    @Test
+    void testCountBusinessDays() {
+        assertEquals(23, ReportStatsService.countBusinessDays(MONTH, LocalDate.of(2001, 3, 1)));
+        // 1日(月)～5日(金)、8日(月)～10日(水)
+        assertEquals(8, ReportStatsService.countBusinessDays(MONTH, LocalDate.of(2001, 1, 10)));
+        assertEquals(0, ReportStatsService.countBusinessDays(YearMonth.of(2001, 2), LocalDate.of(2001, 1, 31)));
+        // 月の途中から数える場合は、その日以降の平日（29日(月)～31日(水)）
+        assertEquals(3, ReportStatsService.countBusinessDays(MONTH, LocalDate.of(2001, 1, 28), LocalDate.of(2001, 3, 1)));
+        assertEquals(23, ReportStatsService.countBusinessDays(MONTH, LocalDate.of(2000, 6, 1), LocalDate.of(2001, 3, 1)));
+    }
+
+    // 月の途中に登録された従業員は、登録日より前の平日を未提出として数えないこと
+    @Test
+    void testMissedDaysFromHireDate() {
+        fixtures.insertEmployee("T1", MONTH.atDay(29));
+        assertEquals(ErrorKinds.SUCCESS, reportService.createReport(fixtures.newReport("T1", MONTH.atDay(29)), "T1"));
+
+        // 29日(月)～31日(水)のうち29日のみ提出
+        assertStats(1, 1, 2, stats("T1"));
+    }
+
+    // 全日報からの再集計が差分更新の結果と一致すること
+    @Test
+    void testRebuild() {
+        fixtures.insertEmployee("T1", HIRED_ON);
+        fixtures.insertEmployee("T2", HIRED_ON);
+        Report monday = fixtures.newReport("T1", MONDAY);
+        reportService.createReport(monday, "T1");
+        reportService.createReport(fixtures.newReport("T1", SATURDAY), "T1");
+        reportService.createReport(fixtures.newReport("T1", MONTH.atDay(2)), "T1");
+        reportService.createReport(fixtures.newReport("T2", MONDAY), "T2");
+        reportService.deleteReport(monday.getId());
+        List<String> incremental = toStrings(service.findMonthlyStats(MONTH));
+
+        service.rebuild();
+
+        assertEquals(incremental, toStrings(service.findMonthlyStats(MONTH)));
+        assertStats(2, 1, 22, stats("T1"));
+        assertStats(1, 1, 22, stats("T2"));
+    }
+
+    private void assertStats(int reportCount, int businessDayCount, int missedDays, MonthlyReportStats stats) {
+        assertEquals(reportCount, stats.getReportCount());
+        assertEquals(businessDayCount, stats.getBusinessDayCount());
+        assertEquals(missedDays, stats.getMissedDays());
+    }
+
+    private MonthlyReportStats stats(String employeeCode) {
+        return service.findMonthlyStats(MONTH).stream().filter(stats -> employeeCode.equals(stats.getEmployeeCode()))
+                .findFirst().get();
+    }
+
+    private List<String> toStrings(List<MonthlyReportStats> statsList) {
+        return statsList.stream().map(stats -> stats.getEmployeeCode() + ":" + stats.getReportCount() + ":"
+                + stats.getBusinessDayCount() + ":" + stats.getMissedDays()).collect(Collectors.toList());
+    }
+
+}